@@ -0,0 +1,112 @@
+package Benchmarks;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import Employee.Employee;
+import Employee.EmployeeCache;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Skewed id lookups through a slow loader: LRU LinkedHashMap versus EmployeeCache (W-TinyLFU)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+    private static final int LOOKUPS = 100_000;
+    // Simulated cost of a storage round trip
+    private static final int LOAD_TOKENS = 2000;
+    private static final int SKILLS = 3;
+
+    @Param({"1000000"})
+    public int rosterSize;
+
+    // Weight budget, about 1% of the roster at 1 + SKILLS per entry
+    @Param({"40000"})
+    public int maximumWeight;
+
+    private Map<String, Employee> storage;
+    private String[] trace;
+    private EmployeeCache tinyLfu;
+    private Map<String, Employee> lru;
+    private long lruLookups;
+    private long lruMisses;
+    private int offset;
+
+    @Setup
+    public void setUp() {
+        storage = new HashMap<>();
+        for (Employee employee : Rosters.roster(rosterSize, SKILLS)) {
+            storage.put(employee.getId(), employee);
+        }
+        // Half the lookups favour managers (every tenth id), 30% recent hires
+        // (the highest ids), and the rest are uniform one-offs
+        Random random = new Random(3);
+        trace = new String[LOOKUPS * 10];
+        for (int i = 0; i < trace.length; i++) {
+            double u = random.nextDouble();
+            int index;
+            if (u < 0.5) {
+                index = 10 * (int) (rosterSize / 10 * Math.pow(random.nextDouble(), 4));
+            } else if (u < 0.8) {
+                index = rosterSize - 1 - (int) (rosterSize * Math.pow(random.nextDouble(), 4));
+            } else {
+                index = random.nextInt(rosterSize);
+            }
+            trace[i] = String.format("E%06d", index);
+        }
+        tinyLfu = new EmployeeCache(maximumWeight, this::load);
+        int entries = maximumWeight / (1 + SKILLS);
+        lru = new LinkedHashMap<>(entries * 2, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Employee> eldest) {
+                return size() > entries;
+            }
+        };
+    }
+
+    private Employee load(String id) {
+        Blackhole.consumeCPU(LOAD_TOKENS);
+        return storage.get(id);
+    }
+
+    private int nextOffset() {
+        offset = (offset + LOOKUPS) % trace.length;
+        return offset;
+    }
+
+    @Benchmark
+    public void lruLinkedHashMap(Blackhole blackhole) {
+        int from = nextOffset();
+        for (int i = from; i < from + LOOKUPS; i++) {
+            Employee employee = lru.get(trace[i]);
+            lruLookups++;
+            if (employee == null) {
+                lruMisses++;
+                employee = load(trace[i]);
+                lru.put(trace[i], employee);
+            }
+            blackhole.consume(employee);
+        }
+    }
+
+    @Benchmark
+    public void employeeCache(Blackhole blackhole) {
+        int from = nextOffset();
+        for (int i = from; i < from + LOOKUPS; i++) {
+            blackhole.consume(tinyLfu.get(trace[i]));
+        }
+    }
+
+    @TearDown
+    public void report() {
+        if (lruLookups > 0) {
+            System.out.printf("%nLRU hit rate %.3f%n", 1 - (double) lruMisses / lruLookups);
+        }
+        if (tinyLfu.getHitCount() + tinyLfu.getMissCount() > 0) {
+            System.out.printf("%nEmployeeCache hit rate %.3f, evictions %d%n", tinyLfu.hitRate(), tinyLfu.getEvictionCount());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package Benchmarks;
+import java.util.concurrent.TimeUnit;
+
+import Department.Department;
+import Employee.Employee;
+import Employee.Manager;
+import org.openjdk.jmh.annotations.*;
+
+// Replaces the System.nanoTime() comparison that used to live in EmployeeTest
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class CloneBenchmark {
+    @Param({"0", "5", "100"})
+    public int skillCount;
+
+    private Employee employee;
+    private Manager manager;
+
+    @Setup
+    public void setUp() {
+        Department department = new Department("Engineering", "Building A");
+        employee = new Employee("E001", "John Doe", 75000, department);
+        manager = new Manager("M001", "Alice Manager", 100000, department, 0.2);
+        for (int i = 0; i < skillCount; i++) {
+            employee.addSkill("Skill" + i);
+            manager.addSkill("Skill" + i);
+        }
+    }
+
+    @Benchmark
+    public Employee shallowClone() throws CloneNotSupportedException {
+        return employee.clone();
+    }
+
+    @Benchmark
+    public Employee deepClone() {
+        return employee.deepClone();
+    }
+
+    // Deep clone followed by the first write, which is when the skills list is actually copied
+    @Benchmark
+    public Employee deepCloneThenAddSkill() {
+        Employee cloned = employee.deepClone();
+        cloned.addSkill("New Skill");
+        return cloned;
+    }
+
+    @Benchmark
+    public Employee managerDeepClone() {
+        return manager.deepClone();
+    }
+}
@@ -0,0 +1,107 @@
+package Benchmarks;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import Department.Department;
+import Employee.Employee;
+import Employee.EmployeeCodec;
+import org.openjdk.jmh.annotations.*;
+
+// EmployeeCodec versus Java serialization of the same fields. Employee is not
+// Serializable, so the Java side goes through a serializable mirror record both ways.
+// The encode benchmarks also report the encoded size as a secondary result.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+    @Param({"100000"})
+    public int rosterSize;
+
+    @Param({"5"})
+    public int skillCount;
+
+    private List<Employee> roster;
+    private ByteBuffer encoded;
+    private byte[] serialized;
+
+    record SerializedEmployee(String id, String name, double salary, String departmentName,
+                              String departmentLocation, ArrayList<String> skills) implements Serializable {
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        roster = Rosters.roster(rosterSize, skillCount);
+        encoded = EmployeeCodec.encodeAll(roster);
+        serialized = javaSerialize();
+    }
+
+    // Bytes for the whole roster, reported next to the encode times
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CodecSize {
+        public long codecBytes;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class SerializedSize {
+        public long javaSerializationBytes;
+    }
+
+    @Benchmark
+    public int codecEncode(CodecSize size) {
+        int bytes = EmployeeCodec.encodeAll(roster).remaining();
+        size.codecBytes = bytes;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<Employee> codecDecode() {
+        return EmployeeCodec.decodeAll(encoded.duplicate());
+    }
+
+    @Benchmark
+    public byte[] javaSerializationEncode(SerializedSize size) throws IOException {
+        byte[] bytes = javaSerialize();
+        size.javaSerializationBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public List<Employee> javaSerializationDecode() throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            @SuppressWarnings("unchecked")
+            List<SerializedEmployee> records = (List<SerializedEmployee>) in.readObject();
+            List<Employee> result = new ArrayList<>(records.size());
+            for (SerializedEmployee record : records) {
+                Department department = record.departmentName() == null && record.departmentLocation() == null
+                        ? null : new Department(record.departmentName(), record.departmentLocation());
+                Employee employee = new Employee(record.id(), record.name(), record.salary(), department);
+                record.skills().forEach(employee::addSkill);
+                result.add(employee);
+            }
+            return result;
+        }
+    }
+
+    private byte[] javaSerialize() throws IOException {
+        ArrayList<SerializedEmployee> records = new ArrayList<>(roster.size());
+        for (Employee employee : roster) {
+            Department department = employee.getDepartment();
+            records.add(new SerializedEmployee(employee.getId(), employee.getName(), employee.getSalary(),
+                    department == null ? null : department.getName(),
+                    department == null ? null : department.getLocation(),
+                    new ArrayList<>(employee.getSkills())));
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1 << 20);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(records);
+        }
+        return bytes.toByteArray();
+    }
+}
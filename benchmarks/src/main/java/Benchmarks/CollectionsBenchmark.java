@@ -0,0 +1,74 @@
+package Benchmarks;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import Employee.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// equals/hashCode through hash collections and compareTo through sorting
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CollectionsBenchmark {
+    @Param({"1000", "100000"})
+    public int rosterSize;
+
+    @Param({"5"})
+    public int skillCount;
+
+    private List<Employee> roster;
+    private List<Employee> lookups;
+    private Map<Employee, Employee> map;
+    private Set<Employee> set;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.roster(rosterSize, skillCount);
+        // Distinct instances equal to the roster entries, so lookups go through equals()
+        lookups = new ArrayList<>(rosterSize);
+        for (Employee employee : roster) {
+            lookups.add(new Employee(employee.getId(), null, 0, null));
+        }
+        Collections.shuffle(lookups, new Random(1));
+        map = new HashMap<>();
+        set = new HashSet<>();
+        for (Employee employee : roster) {
+            map.put(employee, employee);
+            set.add(employee);
+        }
+    }
+
+    @Benchmark
+    public Map<Employee, Employee> hashMapBuild() {
+        Map<Employee, Employee> result = new HashMap<>();
+        for (Employee employee : roster) {
+            result.put(employee, employee);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public void hashMapLookup(Blackhole blackhole) {
+        for (Employee key : lookups) {
+            blackhole.consume(map.get(key));
+        }
+    }
+
+    @Benchmark
+    public void hashSetContains(Blackhole blackhole) {
+        for (Employee key : lookups) {
+            blackhole.consume(set.contains(key));
+        }
+    }
+
+    @Benchmark
+    public List<Employee> sortBySalary() {
+        List<Employee> copy = new ArrayList<>(roster);
+        Collections.sort(copy);
+        return copy;
+    }
+}
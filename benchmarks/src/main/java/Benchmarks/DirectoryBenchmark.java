@@ -0,0 +1,75 @@
+package Benchmarks;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import Employee.Contractor;
+import Employee.Employee;
+import Employee.EmployeeDirectory;
+import org.openjdk.jmh.annotations.*;
+
+// Striped EmployeeDirectory versus one global lock around a HashMap, 8 threads
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class DirectoryBenchmark {
+    @Param({"100000"})
+    public int rosterSize;
+
+    private EmployeeDirectory directory;
+    private Map<String, Employee> globalLockMap;
+    private String[] ids;
+
+    @Setup
+    public void setUp() {
+        directory = new EmployeeDirectory();
+        globalLockMap = new HashMap<>();
+        List<Employee> roster = Rosters.roster(rosterSize, 5);
+        List<String> salaried = new ArrayList<>();
+        for (Employee employee : roster) {
+            // Contractor pay is derived from hours, so raises only target salaried staff
+            if (!(employee instanceof Contractor)) {
+                salaried.add(employee.getId());
+                directory.add(employee);
+                globalLockMap.put(employee.getId(), employee.deepClone());
+            }
+        }
+        ids = salaried.toArray(new String[0]);
+    }
+
+    private String randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    @Benchmark
+    public boolean stripedRaise() {
+        return directory.adjustSalary(randomId(), s -> s + 1);
+    }
+
+    @Benchmark
+    public double stripedSalaryRead() {
+        return directory.getSalary(randomId());
+    }
+
+    @Benchmark
+    public boolean globalLockRaise() {
+        String id = randomId();
+        synchronized (globalLockMap) {
+            Employee employee = globalLockMap.get(id);
+            employee.setSalary(employee.getSalary() + 1);
+            return true;
+        }
+    }
+
+    @Benchmark
+    public double globalLockSalaryRead() {
+        String id = randomId();
+        synchronized (globalLockMap) {
+            return globalLockMap.get(id).getSalary();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package Benchmarks;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import Employee.Employee;
+import org.openjdk.jmh.annotations.*;
+
+// Whole-roster export: one String per record versus streaming into a reused buffer
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ExportBenchmark {
+    @Param({"100000"})
+    public int rosterSize;
+
+    @Param({"5"})
+    public int skillCount;
+
+    private List<Employee> roster;
+    private StringBuilder buffer;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.roster(rosterSize, skillCount);
+        buffer = new StringBuilder(1 << 16);
+    }
+
+    @Benchmark
+    public long toStringPerRecord() throws IOException {
+        try (CountingWriter out = new CountingWriter()) {
+            for (Employee employee : roster) {
+                out.write(employee.toString());
+                out.write('\n');
+            }
+            return out.count;
+        }
+    }
+
+    @Benchmark
+    public long appendToReusedBuffer() throws IOException {
+        try (CountingWriter out = new CountingWriter()) {
+            for (Employee employee : roster) {
+                employee.writeTo(buffer).append('\n');
+                if (buffer.length() > 60_000) {
+                    out.append(buffer);
+                    buffer.setLength(0);
+                }
+            }
+            out.append(buffer);
+            buffer.setLength(0);
+            return out.count;
+        }
+    }
+
+    // Stand-in for a log or file Writer that only counts characters
+    static final class CountingWriter extends Writer {
+        long count;
+
+        @Override
+        public void write(char[] chars, int offset, int length) {
+            count += length;
+        }
+
+        @Override
+        public Writer append(CharSequence chars) {
+            count += chars.length();
+            return this;
+        }
+
+        @Override
+        public void write(String string) {
+            count += string.length();
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package Benchmarks;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import Department.Department;
+import Employee.Employee;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+// Cached, spread Employee.hashCode versus recomputing Objects.hashCode(id) on every call
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class HashCodeBenchmark {
+    @Param({"1000", "1000000"})
+    public int rosterSize;
+
+    private List<Employee> cachedKeys;
+    private List<Employee> uncachedKeys;
+    private Map<Employee, Employee> cachedMap;
+    private Map<Employee, Employee> uncachedMap;
+
+    @Setup
+    public void setUp() {
+        cachedKeys = new ArrayList<>(rosterSize);
+        uncachedKeys = new ArrayList<>(rosterSize);
+        cachedMap = new HashMap<>();
+        uncachedMap = new HashMap<>();
+        for (int i = 0; i < rosterSize; i++) {
+            String id = String.format("E%06d", i);
+            Employee cached = new Employee(id, "Employee " + i, 50000, null);
+            Employee uncached = new UncachedEmployee(id, "Employee " + i, 50000, null);
+            cachedMap.put(cached, cached);
+            uncachedMap.put(uncached, uncached);
+            cachedKeys.add(cached);
+            uncachedKeys.add(uncached);
+        }
+        Collections.shuffle(cachedKeys, new Random(1));
+        Collections.shuffle(uncachedKeys, new Random(1));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void cachedLookup(Blackhole blackhole) {
+        for (int i = 0; i < 1000; i++) {
+            blackhole.consume(cachedMap.get(cachedKeys.get(i % rosterSize)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public void recomputedLookup(Blackhole blackhole) {
+        for (int i = 0; i < 1000; i++) {
+            blackhole.consume(uncachedMap.get(uncachedKeys.get(i % rosterSize)));
+        }
+    }
+
+    @Benchmark
+    public Map<Employee, Employee> cachedResize() {
+        Map<Employee, Employee> map = new HashMap<>();
+        for (Employee key : cachedKeys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public Map<Employee, Employee> recomputedResize() {
+        Map<Employee, Employee> map = new HashMap<>();
+        for (Employee key : uncachedKeys) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    // Baseline: the straightforward id-based hashCode without caching or spreading
+    static final class UncachedEmployee extends Employee {
+        UncachedEmployee(String id, String name, double salary, Department department) {
+            super(id, name, salary, department);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getId());
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package Benchmarks;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import Employee.Contractor;
+import Employee.DepartmentAggregator;
+import Employee.Employee;
+import Employee.HoursIngestor;
+import org.openjdk.jmh.annotations.*;
+
+// Timesheet events from 8 threads against contractors tracked by a DepartmentAggregator,
+// logged one by one versus batched through HoursIngestor. Each thread files a day of
+// hourly entries for one contractor before moving on to the next.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class HoursIngestionBenchmark {
+    @Param({"100000"})
+    public int rosterSize;
+
+    @Param({"256"})
+    public int batchSize;
+
+    private Contractor[] contractors;
+    private HoursIngestor ingestor;
+
+    @Setup
+    public void setUp() {
+        DepartmentAggregator aggregator = new DepartmentAggregator();
+        List<Contractor> list = new ArrayList<>();
+        for (Employee employee : Rosters.roster(rosterSize, 0)) {
+            if (employee instanceof Contractor contractor) {
+                aggregator.add(contractor);
+                list.add(contractor);
+            }
+        }
+        contractors = list.toArray(new Contractor[0]);
+        ingestor = HoursIngestor.withFlushInterval(batchSize, 100, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ingestor.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Timesheet {
+        private Contractor contractor;
+        private int remaining;
+
+        Contractor next(Contractor[] contractors) {
+            if (remaining-- == 0) {
+                contractor = contractors[ThreadLocalRandom.current().nextInt(contractors.length)];
+                remaining = 7;
+            }
+            return contractor;
+        }
+    }
+
+    @Benchmark
+    public void directLogHours(Timesheet timesheet) {
+        timesheet.next(contractors).logHours(1);
+    }
+
+    @Benchmark
+    public void batchedRecord(Timesheet timesheet) {
+        ingestor.record(timesheet.next(contractors), 1);
+    }
+}
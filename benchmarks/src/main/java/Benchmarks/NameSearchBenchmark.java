@@ -0,0 +1,54 @@
+package Benchmarks;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import Employee.Employee;
+import Employee.NameIndex;
+import Employee.OrdinalBitmap;
+import org.openjdk.jmh.annotations.*;
+
+// Search-as-you-type prefix lookup: linear case-insensitive startsWith versus NameIndex
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NameSearchBenchmark {
+    @Param({"1000000"})
+    public int rosterSize;
+
+    // "manager 12" matches about a hundred employees
+    @Param({"manager 12"})
+    public String prefix;
+
+    private List<Employee> roster;
+    private NameIndex index;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.roster(rosterSize, 0);
+        index = new NameIndex();
+        for (Employee employee : roster) {
+            index.add(employee);
+        }
+    }
+
+    @Benchmark
+    public List<Employee> linearScan() {
+        List<Employee> result = new ArrayList<>();
+        for (Employee employee : roster) {
+            String name = employee.getName();
+            if (name != null && name.regionMatches(true, 0, prefix, 0, prefix.length())) {
+                result.add(employee);
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Employee> nameIndex() {
+        OrdinalBitmap matches = index.withPrefix(prefix);
+        return index.employees(matches);
+    }
+}
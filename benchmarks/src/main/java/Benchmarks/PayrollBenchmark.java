@@ -0,0 +1,63 @@
+package Benchmarks;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import Employee.Employee;
+import Employee.PayrollEngine;
+import Employee.TaxService;
+import org.openjdk.jmh.annotations.*;
+
+// Payroll run with a blocking tax call per employee: fixed platform pool versus virtual threads
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayrollBenchmark {
+    private static final int DEPARTMENT_LIMIT = 1000;
+    private static final int BATCH_SIZE = 1000;
+    private static final int MAX_IN_FLIGHT = 10_000;
+
+    @Param({"1000000"})
+    public int rosterSize;
+
+    // Simulated tax service round trip
+    @Param({"1000000"})
+    public long taxLatencyNanos;
+
+    @Param({"200"})
+    public int platformThreads;
+
+    private List<Employee> roster;
+    private PayrollEngine platform;
+    private PayrollEngine virtual;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.roster(rosterSize, 0);
+        TaxService taxService = TaxService.flatRate(0.25, taxLatencyNanos);
+        platform = new PayrollEngine(Executors.newFixedThreadPool(platformThreads), taxService,
+                DEPARTMENT_LIMIT, BATCH_SIZE, MAX_IN_FLIGHT);
+        virtual = new PayrollEngine(Executors.newVirtualThreadPerTaskExecutor(), taxService,
+                DEPARTMENT_LIMIT, BATCH_SIZE, MAX_IN_FLIGHT);
+    }
+
+    @TearDown
+    public void tearDown() {
+        platform.close();
+        virtual.close();
+    }
+
+    @Benchmark
+    public PayrollEngine.Totals fixedPlatformPool() throws InterruptedException, ExecutionException {
+        return platform.run(roster, batch -> { });
+    }
+
+    @Benchmark
+    public PayrollEngine.Totals virtualThreads() throws InterruptedException, ExecutionException {
+        return virtual.run(roster, batch -> { });
+    }
+}
@@ -0,0 +1,100 @@
+package Benchmarks;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import Employee.Employee;
+import Employee.EmployeeRepository;
+import org.openjdk.jmh.annotations.*;
+
+// Write-ahead log throughput and recovery time for EmployeeRepository
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryBenchmark {
+    @Param({"1000000"})
+    public int rosterSize;
+
+    // Employees per putAll call, so one force per batch
+    @Param({"1000"})
+    public int batchSize;
+
+    private List<Employee> roster;
+    private Path writeDirectory;
+    private Path logDirectory;
+    private Path checkpointDirectory;
+
+    @Setup
+    public void setUp() throws IOException {
+        roster = Rosters.roster(rosterSize, 3);
+        // Recovery from the log alone: no checkpoint is ever due
+        logDirectory = Files.createTempDirectory("wal-log");
+        try (EmployeeRepository repository = new EmployeeRepository(logDirectory, 1L << 30, Integer.MAX_VALUE)) {
+            write(repository);
+        }
+        checkpointDirectory = Files.createTempDirectory("wal-checkpoint");
+        try (EmployeeRepository repository = new EmployeeRepository(checkpointDirectory)) {
+            write(repository);
+            repository.checkpoint();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void freshDirectory() throws IOException {
+        writeDirectory = Files.createTempDirectory("wal-write");
+    }
+
+    @TearDown(Level.Invocation)
+    public void deleteWriteDirectory() throws IOException {
+        delete(writeDirectory);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        delete(logDirectory);
+        delete(checkpointDirectory);
+    }
+
+    private void write(EmployeeRepository repository) throws IOException {
+        for (int from = 0; from < roster.size(); from += batchSize) {
+            repository.putAll(roster.subList(from, Math.min(from + batchSize, roster.size())));
+        }
+    }
+
+    private static void delete(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public long writeBatched() throws IOException {
+        try (EmployeeRepository repository = new EmployeeRepository(writeDirectory)) {
+            write(repository);
+            return repository.getCommitCount();
+        }
+    }
+
+    @Benchmark
+    public int recoverFromLog() throws IOException {
+        try (EmployeeRepository repository = new EmployeeRepository(logDirectory, 1L << 30, Integer.MAX_VALUE)) {
+            return repository.size();
+        }
+    }
+
+    @Benchmark
+    public int recoverFromCheckpoint() throws IOException {
+        try (EmployeeRepository repository = new EmployeeRepository(checkpointDirectory)) {
+            return repository.size();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package Benchmarks;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import Department.DepartmentRegistry;
+import Employee.Employee;
+import Employee.RosterCloner;
+import org.openjdk.jmh.annotations.*;
+
+// Sequential deepClone() loop versus the fork-join RosterCloner
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RosterCloneBenchmark {
+    @Param({"1000000"})
+    public int rosterSize;
+
+    @Param({"5"})
+    public int skillCount;
+
+    private List<Employee> roster;
+    private RosterCloner cloner;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.roster(rosterSize, skillCount);
+        cloner = new RosterCloner();
+    }
+
+    @Benchmark
+    public List<Employee> sequential() {
+        List<Employee> result = new ArrayList<>(roster.size());
+        for (Employee employee : roster) {
+            result.add(employee.deepClone());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<Employee> parallel() {
+        return cloner.deepCloneAll(roster);
+    }
+
+    @Benchmark
+    public List<Employee> parallelSharedDepartments() {
+        return cloner.deepCloneAll(roster, new DepartmentRegistry());
+    }
+}
@@ -0,0 +1,47 @@
+package Benchmarks;
+import java.time.LocalDate;
+import java.util.*;
+
+import Department.Department;
+import Employee.Contractor;
+import Employee.Employee;
+import Employee.Manager;
+
+// Deterministic synthetic rosters shared by the benchmarks
+public final class Rosters {
+    private static final String[] DEPARTMENTS = {"Engineering", "Marketing", "Sales", "Finance", "Operations"};
+
+    private Rosters() {
+    }
+
+    // Mix of 80% employees, 10% managers and 10% contractors, ids E000001...
+    public static List<Employee> roster(int size, int skillCount) {
+        Random random = new Random(42);
+        Department[] departments = new Department[DEPARTMENTS.length];
+        for (int d = 0; d < departments.length; d++) {
+            departments[d] = new Department(DEPARTMENTS[d], "Building " + (char) ('A' + d));
+        }
+        List<Employee> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            String id = String.format("E%06d", i);
+            Department department = departments[random.nextInt(departments.length)];
+            double salary = 40000 + random.nextInt(120) * 1000;
+            Employee employee;
+            switch (i % 10) {
+                case 0 -> employee = new Manager(id, "Manager " + i, salary, department, 0.2);
+                case 1 -> {
+                    Contractor contractor = new Contractor(id, "Contractor " + i, 100 + random.nextInt(100),
+                            department, LocalDate.of(2030, 1, 1).plusDays(random.nextInt(365)));
+                    contractor.logHours(random.nextInt(2000));
+                    employee = contractor;
+                }
+                default -> employee = new Employee(id, "Employee " + i, salary, department);
+            }
+            for (int s = 0; s < skillCount; s++) {
+                employee.addSkill("Skill" + random.nextInt(200));
+            }
+            roster.add(employee);
+        }
+        return roster;
+    }
+}
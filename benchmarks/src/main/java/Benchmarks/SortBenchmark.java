@@ -0,0 +1,67 @@
+package Benchmarks;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import Department.Department;
+import Employee.Employee;
+import Employee.RosterSorter;
+import org.openjdk.jmh.annotations.*;
+
+// Department, salary, name report order: chained Comparators versus RosterSorter
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortBenchmark {
+    private static final Comparator<Employee> REPORT_ORDER = Comparator
+            .comparing(Employee::getDepartment, Comparator.nullsFirst(
+                    Comparator.comparing(Department::getName).thenComparing(Department::getLocation)))
+            .thenComparing(Comparator.naturalOrder())
+            .thenComparing(Employee::getName);
+
+    @Param({"1000000"})
+    public int rosterSize;
+
+    private List<Employee> roster;
+    private RosterSorter reportSorter;
+    private RosterSorter salarySorter;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.roster(rosterSize, 0);
+        // Shuffle so the synthetic ids do not hand the sorts pre-ordered runs
+        Collections.shuffle(roster, new Random(1));
+        reportSorter = new RosterSorter(RosterSorter.Key.DEPARTMENT, RosterSorter.Key.SALARY, RosterSorter.Key.NAME);
+        salarySorter = new RosterSorter(RosterSorter.Key.SALARY);
+    }
+
+    @Benchmark
+    public List<Employee> comparatorChain() {
+        List<Employee> copy = new ArrayList<>(roster);
+        copy.sort(REPORT_ORDER);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Employee> rosterSorter() {
+        List<Employee> copy = new ArrayList<>(roster);
+        reportSorter.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Employee> compareToSort() {
+        List<Employee> copy = new ArrayList<>(roster);
+        Collections.sort(copy);
+        return copy;
+    }
+
+    @Benchmark
+    public List<Employee> rosterSorterSalaryOnly() {
+        List<Employee> copy = new ArrayList<>(roster);
+        salarySorter.sort(copy);
+        return copy;
+    }
+}
@@ -0,0 +1,59 @@
+package Benchmarks;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import Department.Department;
+import Employee.Contractor;
+import Employee.Employee;
+import Employee.Manager;
+import org.openjdk.jmh.annotations.*;
+
+// Run with -prof gc to see the bytes allocated per call
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class ToStringBenchmark {
+    @Param({"0", "5", "50"})
+    public int skillCount;
+
+    private Employee employee;
+    private Manager manager;
+    private Contractor contractor;
+    private Department department;
+
+    @Setup
+    public void setUp() {
+        department = new Department("Engineering", "Building A");
+        employee = new Employee("E001", "John Doe", 75000, department);
+        for (int i = 0; i < skillCount; i++) {
+            employee.addSkill("Skill" + i);
+        }
+        manager = new Manager("M001", "Alice Manager", 100000, department, 0.2);
+        manager.addDirectReport(employee);
+        contractor = new Contractor("C001", "Bob Contractor", 150, department, LocalDate.of(2030, 1, 1));
+        contractor.logHours(40);
+    }
+
+    @Benchmark
+    public String employeeToString() {
+        return employee.toString();
+    }
+
+    @Benchmark
+    public String managerToString() {
+        return manager.toString();
+    }
+
+    @Benchmark
+    public String contractorToString() {
+        return contractor.toString();
+    }
+
+    @Benchmark
+    public String departmentToString() {
+        return department.toString();
+    }
+}
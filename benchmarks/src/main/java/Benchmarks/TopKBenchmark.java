@@ -0,0 +1,61 @@
+package Benchmarks;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import Department.Department;
+import Employee.Employee;
+import Employee.TopEarners;
+import org.openjdk.jmh.annotations.*;
+
+// Top-k highest paid, overall and per department: sort-then-sublist versus TopEarners
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TopKBenchmark {
+    @Param({"1000000"})
+    public int rosterSize;
+
+    @Param({"10", "1000"})
+    public int k;
+
+    private List<Employee> roster;
+    private TopEarners topEarners;
+
+    @Setup
+    public void setUp() {
+        roster = Rosters.roster(rosterSize, 0);
+        Collections.shuffle(roster, new Random(1));
+        topEarners = new TopEarners();
+    }
+
+    @Benchmark
+    public List<Employee> sortThenSublist() {
+        List<Employee> copy = new ArrayList<>(roster);
+        copy.sort(Comparator.reverseOrder());
+        return new ArrayList<>(copy.subList(0, Math.min(k, copy.size())));
+    }
+
+    @Benchmark
+    public List<Employee> topEarners() {
+        return topEarners.highestPaid(roster, k);
+    }
+
+    @Benchmark
+    public Map<Department, List<Employee>> sortThenSublistByDepartment() {
+        Map<Department, List<Employee>> result = roster.stream().collect(Collectors.groupingBy(Employee::getDepartment));
+        result.replaceAll((department, employees) -> {
+            employees.sort(Comparator.reverseOrder());
+            return new ArrayList<>(employees.subList(0, Math.min(k, employees.size())));
+        });
+        return result;
+    }
+
+    @Benchmark
+    public Map<Department, List<Employee>> topEarnersByDepartment() {
+        return topEarners.highestPaidByDepartment(roster, k);
+    }
+}
@@ -1,8 +1,13 @@
 package Department;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Objects;
 
 public class Department {
     private String name;
     private String location;
+    // Null until someone subscribes
+    private DepartmentListener[] listeners;
 
     public Department(String name, String location) {
         this.name = name;
@@ -11,14 +16,73 @@ public class Department {
 
     // Getters and Setters
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) {
+        String oldName = this.name;
+        this.name = name;
+        if (listeners != null) {
+            for (DepartmentListener listener : listeners) listener.nameChanged(this, oldName);
+        }
+    }
 
     public String getLocation() { return location; }
-    public void setLocation(String location) { this.location = location; }
+    public void setLocation(String location) {
+        String oldLocation = this.location;
+        this.location = location;
+        if (listeners != null) {
+            for (DepartmentListener listener : listeners) listener.locationChanged(this, oldLocation);
+        }
+    }
+
+    // Listeners are notified by the setters above; clones start without listeners
+    public void addListener(DepartmentListener listener) {
+        DepartmentListener[] current = listeners == null ? new DepartmentListener[0] : listeners;
+        DepartmentListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    public void removeListener(DepartmentListener listener) {
+        if (listeners == null) {
+            return;
+        }
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                DepartmentListener[] updated = new DepartmentListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, updated.length - i);
+                listeners = updated.length == 0 ? null : updated;
+                return;
+            }
+        }
+    }
+
+    // Value-based: departments with the same name and location are interchangeable,
+    // including the registry's read-only canonical instances
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof Department other)) return false;
+        return Objects.equals(name, other.name) && Objects.equals(location, other.location);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, location);
+    }
 
     @Override
     public String toString() {
-        return "Department{name='" + name + "', location='" + location + "'}";
+        try {
+            return appendTo(new StringBuilder(64)).toString();
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder does not throw IOException", e);
+        }
+    }
+
+    // Streams the toString() form without an intermediate String
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        out.append("Department{name='").append(name).append("', location='").append(location).append("'}");
+        return out;
     }
 
     // Clone method for deep cloning
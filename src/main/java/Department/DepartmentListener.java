@@ -0,0 +1,12 @@
+package Department;
+
+/**
+ * Callback for code that needs to follow changes made through
+ * {@link Department}'s setters. Each method receives the department (already
+ * holding the new value) and the previous value.
+ */
+public interface DepartmentListener {
+    default void nameChanged(Department department, String oldName) { }
+
+    default void locationChanged(Department department, String oldLocation) { }
+}
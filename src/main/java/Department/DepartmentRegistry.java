@@ -0,0 +1,91 @@
+package Department;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns departments by (name, location) so a large roster shares one canonical
+ * instance per real department. Each canonical department gets a stable int id in
+ * registration order. Canonical instances are owned by the registry and shared by
+ * everyone who interns them, so they are read-only: their setters throw
+ * UnsupportedOperationException (use {@link Department#clone()} for a mutable copy).
+ * Callers' own instances are never stored.
+ */
+public class DepartmentRegistry {
+    private final Map<Key, Integer> ids = new ConcurrentHashMap<>();
+    private volatile Department[] departments = new Department[16];
+    private volatile int size;
+
+    public Department intern(Department department) {
+        return department == null ? null : get(internId(department.getName(), department.getLocation()));
+    }
+
+    public Department intern(String name, String location) {
+        return get(internId(name, location));
+    }
+
+    // Id of the canonical department, registering it first if needed; -1 for null
+    public int internId(Department department) {
+        return department == null ? -1 : internId(department.getName(), department.getLocation());
+    }
+
+    public int internId(String name, String location) {
+        Key key = new Key(name, location);
+        Integer id = ids.get(key);
+        if (id != null) {
+            return id;
+        }
+        synchronized (this) {
+            id = ids.get(key);
+            if (id == null) {
+                id = size;
+                Department[] current = departments;
+                if (id == current.length) {
+                    current = Arrays.copyOf(current, id * 2);
+                }
+                current[id] = new Canonical(name, location);
+                departments = current;
+                size = id + 1;
+                ids.put(key, id);
+            }
+            return id;
+        }
+    }
+
+    // Id of an already registered department, or -1
+    public int idOf(Department department) {
+        if (department == null) {
+            return -1;
+        }
+        Integer id = ids.get(new Key(department.getName(), department.getLocation()));
+        return id == null ? -1 : id;
+    }
+
+    public Department get(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Unknown department id: " + id);
+        }
+        return departments[id];
+    }
+
+    public int size() { return size; }
+
+    private record Key(String name, String location) {
+    }
+
+    // Equal to a plain Department with the same name and location
+    private static final class Canonical extends Department {
+        Canonical(String name, String location) {
+            super(name, location);
+        }
+
+        @Override
+        public void setName(String name) {
+            throw new UnsupportedOperationException("Canonical departments are read-only");
+        }
+
+        @Override
+        public void setLocation(String location) {
+            throw new UnsupportedOperationException("Canonical departments are read-only");
+        }
+    }
+}
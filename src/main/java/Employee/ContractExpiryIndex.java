@@ -0,0 +1,111 @@
+package Employee;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Contractors bucketed by the epoch day their contract ends, replacing a scan that
+ * calls {@link Contractor#isContractExpired()} (and so reads the clock) once per
+ * contractor. {@link #tick()} reads the clock once, advances the index to that
+ * date and reports every contract that ended before it to the listeners; the
+ * "expiring soon" query walks only the buckets in range, O(log n + k).
+ *
+ * Contracts without an end date are not indexed. Not thread-safe.
+ */
+public class ContractExpiryIndex {
+    public interface ExpiryListener {
+        void contractExpired(Contractor contractor, LocalDate today);
+    }
+
+    private final Clock clock;
+    private final NavigableMap<Long, List<Contractor>> buckets = new TreeMap<>();
+    private final List<ExpiryListener> listeners = new ArrayList<>();
+    private LocalDate today;
+    private int size;
+
+    public ContractExpiryIndex() {
+        this(Clock.systemDefaultZone());
+    }
+
+    public ContractExpiryIndex(Clock clock) {
+        this.clock = clock;
+        this.today = LocalDate.now(clock);
+    }
+
+    public void addListener(ExpiryListener listener) {
+        listeners.add(listener);
+    }
+
+    // False for open-ended contracts
+    public boolean add(Contractor contractor) {
+        LocalDate endDate = contractor.getContractEndDate();
+        if (endDate == null) {
+            return false;
+        }
+        buckets.computeIfAbsent(endDate.toEpochDay(), day -> new ArrayList<>(2)).add(contractor);
+        size++;
+        return true;
+    }
+
+    public boolean remove(Contractor contractor) {
+        LocalDate endDate = contractor.getContractEndDate();
+        List<Contractor> bucket = endDate == null ? null : buckets.get(endDate.toEpochDay());
+        if (bucket == null) {
+            return false;
+        }
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == contractor) {
+                bucket.remove(i);
+                if (bucket.isEmpty()) {
+                    buckets.remove(endDate.toEpochDay());
+                }
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() { return size; }
+
+    // Date of the last tick (or of construction)
+    public LocalDate today() { return today; }
+
+    // Reads the clock once and expires everything that ended before today
+    public int tick() {
+        return tick(LocalDate.now(clock));
+    }
+
+    // Expired contracts are removed from the index and reported once, in end-date order
+    public int tick(LocalDate date) {
+        if (date.isAfter(today)) {
+            today = date;
+        }
+        NavigableMap<Long, List<Contractor>> expired = buckets.headMap(today.toEpochDay(), false);
+        int count = 0;
+        while (!expired.isEmpty()) {
+            List<Contractor> bucket = expired.pollFirstEntry().getValue();
+            size -= bucket.size();
+            for (Contractor contractor : bucket) {
+                for (ExpiryListener listener : listeners) {
+                    listener.contractExpired(contractor, today);
+                }
+            }
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    // Contracts whose last day falls within the next n days, today included, by end date
+    public List<Contractor> expiringWithin(int days) {
+        if (days < 0) {
+            throw new IllegalArgumentException("Days must not be negative: " + days);
+        }
+        long from = today.toEpochDay();
+        List<Contractor> result = new ArrayList<>();
+        for (List<Contractor> bucket : buckets.subMap(from, true, from + days, false).values()) {
+            result.addAll(bucket);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+package Employee;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+import Department.Department;
+
+/**
+ * Employee paid by the hour. Hours are kept in a {@link LongAdder}, so
+ * {@link #logHours(int)} is safe and cheap from many threads at once, and the
+ * salary is derived from them only when read. {@link HoursIngestor} batches
+ * high-rate timesheet events before they reach the contractor.
+ *
+ * Listeners see one salaryChanged per logHours call; once a listener is attached
+ * those calls are serialized on the contractor, so attach listeners before
+ * ingestion starts. The salary cannot be set directly.
+ */
+public class Contractor extends Employee {
+    private volatile double hourlyRate;
+    private LongAdder hoursWorked = new LongAdder();
+    private final LocalDate contractEndDate;
+
+    public Contractor(String id, String name, double hourlyRate, Department department, LocalDate contractEndDate) {
+        super(id, name, 0, department);
+        this.hourlyRate = hourlyRate;
+        this.contractEndDate = contractEndDate;
+    }
+
+    public void logHours(int hours) {
+        addHours(hours);
+    }
+
+    // Adds hours already summed by HoursIngestor
+    void addHours(long hours) {
+        if (!hasListeners()) {
+            hoursWorked.add(hours);
+            return;
+        }
+        synchronized (this) {
+            double oldSalary = getSalary();
+            hoursWorked.add(hours);
+            fireSalaryChanged(oldSalary);
+        }
+    }
+
+    public long getHoursWorked() { return hoursWorked.sum(); }
+
+    public double getHourlyRate() { return hourlyRate; }
+    public synchronized void setHourlyRate(double hourlyRate) {
+        double oldSalary = getSalary();
+        this.hourlyRate = hourlyRate;
+        fireSalaryChanged(oldSalary);
+    }
+
+    @Override
+    public double getSalary() { return hourlyRate * hoursWorked.sum(); }
+
+    @Override
+    public void setSalary(double salary) {
+        throw new UnsupportedOperationException("Contractor pay is derived from hours worked");
+    }
+
+    public LocalDate getContractEndDate() { return contractEndDate; }
+
+    public boolean isContractExpired() {
+        return isContractExpired(LocalDate.now());
+    }
+
+    // Open-ended contracts (no end date) never expire
+    public boolean isContractExpired(LocalDate today) {
+        return contractEndDate != null && today.isAfter(contractEndDate);
+    }
+
+    @Override
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        out.append("Contractor{id='").append(getId()).append("', name='").append(getName()).append("', hourlyRate=");
+        appendDouble(out, hourlyRate);
+        out.append(", hoursWorked=").append(String.valueOf(hoursWorked.sum()));
+        out.append(", contractEnd=").append(String.valueOf(contractEndDate)).append('}');
+        return out;
+    }
+
+    // Clones get their own hours counter, starting from this contractor's hours
+    @Override
+    public Contractor clone() throws CloneNotSupportedException {
+        Contractor cloned = (Contractor) super.clone();
+        cloned.hoursWorked = copyOf(hoursWorked);
+        return cloned;
+    }
+
+    @Override
+    public Contractor deepClone() {
+        return (Contractor) super.deepClone();
+    }
+
+    @Override
+    Contractor copyWith(Department department) {
+        Contractor cloned = (Contractor) super.copyWith(department);
+        cloned.hoursWorked = copyOf(hoursWorked);
+        return cloned;
+    }
+
+    private static LongAdder copyOf(LongAdder adder) {
+        LongAdder copy = new LongAdder();
+        copy.add(adder.sum());
+        return copy;
+    }
+}
@@ -0,0 +1,144 @@
+package Employee;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import Department.Department;
+import Department.DepartmentRegistry;
+
+/**
+ * Running per-department payroll figures (headcount, total, average, min, max)
+ * kept up to date from {@link Employee} mutations, so dashboards read them in
+ * O(1) instead of scanning the roster. Departments are grouped by value through
+ * a {@link DepartmentRegistry}; employees without a department are grouped
+ * together under {@code null}.
+ *
+ * Each department's figures are plain primitives updated together under that
+ * department's lock, so a reader always sees headcount, total, min and max from
+ * the same moment. Min and max come from a per-department salary multiset, so
+ * reads and updates never look at other departments.
+ * Renaming a {@link Department} object in place is not observed; move employees
+ * with {@link Employee#setDepartment}.
+ */
+public class DepartmentAggregator {
+    private final DepartmentRegistry registry;
+    private final Map<Integer, Stats> stats = new ConcurrentHashMap<>();
+    private final Set<Employee> members = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Listener listener = new Listener();
+
+    public DepartmentAggregator() {
+        this(new DepartmentRegistry());
+    }
+
+    public DepartmentAggregator(DepartmentRegistry registry) {
+        this.registry = registry;
+    }
+
+    // Starts tracking the employee; returns false if it is already tracked
+    public boolean add(Employee employee) {
+        synchronized (members) {
+            if (!members.add(employee)) {
+                return false;
+            }
+        }
+        statsFor(employee.getDepartment()).add(employee.getSalary());
+        employee.addListener(listener);
+        return true;
+    }
+
+    public boolean remove(Employee employee) {
+        synchronized (members) {
+            if (!members.remove(employee)) {
+                return false;
+            }
+        }
+        employee.removeListener(listener);
+        statsFor(employee.getDepartment()).remove(employee.getSalary());
+        return true;
+    }
+
+    // Figures for the department (matched by name and location); all zero if nobody works there
+    public Stats stats(Department department) {
+        int id = registry.idOf(department);
+        if (department != null && id < 0) {
+            return Stats.EMPTY;
+        }
+        Stats result = stats.get(id);
+        return result == null ? Stats.EMPTY : result;
+    }
+
+    // Departments that have had at least one tracked employee
+    public List<Department> departments() {
+        List<Department> result = new ArrayList<>();
+        for (Integer id : stats.keySet()) {
+            if (id >= 0) {
+                result.add(registry.get(id));
+            }
+        }
+        return result;
+    }
+
+    private Stats statsFor(Department department) {
+        return stats.computeIfAbsent(registry.internId(department), id -> new Stats());
+    }
+
+    private final class Listener implements EmployeeListener {
+        @Override
+        public void salaryChanged(Employee employee, double oldSalary) {
+            statsFor(employee.getDepartment()).replace(oldSalary, employee.getSalary());
+        }
+
+        @Override
+        public void departmentChanged(Employee employee, Department oldDepartment) {
+            double salary = employee.getSalary();
+            statsFor(oldDepartment).remove(salary);
+            statsFor(employee.getDepartment()).add(salary);
+        }
+    }
+
+    public static final class Stats {
+        private static final Stats EMPTY = new Stats();
+
+        // Guarded by this
+        private long headcount;
+        private double total;
+        // Salary multiset (salary to number of employees earning it) for min and max
+        private final TreeMap<Double, Integer> salaries = new TreeMap<>();
+
+        public synchronized long getHeadcount() { return headcount; }
+
+        public synchronized double getTotalSalary() { return total; }
+
+        // 0 for an empty department
+        public synchronized double getAverageSalary() {
+            return headcount == 0 ? 0 : total / headcount;
+        }
+
+        // NaN for an empty department
+        public synchronized double getMinSalary() {
+            return salaries.isEmpty() ? Double.NaN : salaries.firstKey();
+        }
+
+        public synchronized double getMaxSalary() {
+            return salaries.isEmpty() ? Double.NaN : salaries.lastKey();
+        }
+
+        private synchronized void add(double salary) {
+            headcount++;
+            total += salary;
+            salaries.merge(salary, 1, Integer::sum);
+        }
+
+        private synchronized void remove(double salary) {
+            headcount--;
+            // Start the next member from exact figures rather than rounding residue
+            total = headcount == 0 ? 0 : total - salary;
+            salaries.computeIfPresent(salary, (s, n) -> n == 1 ? null : n - 1);
+        }
+
+        private synchronized void replace(double oldSalary, double newSalary) {
+            total += newSalary - oldSalary;
+            salaries.computeIfPresent(oldSalary, (s, n) -> n == 1 ? null : n - 1);
+            salaries.merge(newSalary, 1, Integer::sum);
+        }
+    }
+}
@@ -1,78 +1,255 @@
 package Employee;
+import java.io.IOException;
 import java.util.*;
 
 import Department.Department;
+import Department.DepartmentRegistry;
 
 public class Employee implements Comparable<Employee>, Cloneable {
     private String id;
     private String name;
     private double salary;
     private Department department;
-    private List<String> skills;
+    private SkillList skills;
+    // Null until someone subscribes, so plain employees pay one reference
+    private EmployeeListener[] listeners;
+    // Cached hashCode of the id, 0 until computed; reset by setId
+    private int hash;
 
     // Constructor
     public Employee(String id, String name, double salary, Department department) {
-        this.id = null;
-        this.name = null;
-        this.salary = 0;
-        this.department = null;
-        this.skills = new ArrayList<>();
+        this.id = id;
+        this.name = name;
+        this.salary = salary;
+        this.department = department;
+        this.skills = new SkillList();
+    }
+
+    // Used by flyweight views (see EmployeeStore) that keep their state elsewhere
+    Employee() {
     }
 
     // Getters and Setters
     public String getId() { return id; }
-    public void setId(String id) { this.id = id; }
+    public void setId(String id) {
+        String oldId = this.id;
+        this.id = id;
+        resetHash();
+        fireIdChanged(oldId);
+    }
 
     public String getName() { return name; }
-    public void setName(String name) { this.name = name; }
+    public void setName(String name) {
+        String oldName = this.name;
+        this.name = name;
+        fireNameChanged(oldName);
+    }
 
     public double getSalary() { return salary; }
-    public void setSalary(double salary) { this.salary = salary; }
+    public void setSalary(double salary) {
+        double oldSalary = this.salary;
+        this.salary = salary;
+        fireSalaryChanged(oldSalary);
+    }
 
     public Department getDepartment() { return department; }
-    public void setDepartment(Department department) { this.department = department; }
+    public void setDepartment(Department department) {
+        Department oldDepartment = this.department;
+        this.department = department;
+        fireDepartmentChanged(oldDepartment);
+    }
 
     public List<String> getSkills() { return skills; }
-    public void addSkill(String skill) { this.skills.add(skill); }
+    public void addSkill(String skill) {
+        this.skills.add(skill);
+        fireSkillAdded(skill);
+    }
+
+    // Listeners are notified by the setters above; clones start without listeners
+    public void addListener(EmployeeListener listener) {
+        EmployeeListener[] current = listeners == null ? new EmployeeListener[0] : listeners;
+        EmployeeListener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    public void removeListener(EmployeeListener listener) {
+        if (listeners == null) {
+            return;
+        }
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                EmployeeListener[] updated = new EmployeeListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, updated.length - i);
+                listeners = updated.length == 0 ? null : updated;
+                return;
+            }
+        }
+    }
+
+    // Also used by subclasses whose salary is derived rather than set, and by
+    // flyweight views whose setters bypass the ones above
+    void fireIdChanged(String oldId) {
+        if (listeners != null) {
+            for (EmployeeListener listener : listeners) listener.idChanged(this, oldId);
+        }
+    }
+
+    void fireNameChanged(String oldName) {
+        if (listeners != null) {
+            for (EmployeeListener listener : listeners) listener.nameChanged(this, oldName);
+        }
+    }
+
+    void fireSalaryChanged(double oldSalary) {
+        if (listeners != null) {
+            for (EmployeeListener listener : listeners) listener.salaryChanged(this, oldSalary);
+        }
+    }
+
+    void fireDepartmentChanged(Department oldDepartment) {
+        if (listeners != null) {
+            for (EmployeeListener listener : listeners) listener.departmentChanged(this, oldDepartment);
+        }
+    }
 
-    // TODO: Implement equals() method
+    void fireSkillAdded(String skill) {
+        if (listeners != null) {
+            for (EmployeeListener listener : listeners) listener.skillAdded(this, skill);
+        }
+    }
+
+    boolean hasListeners() { return listeners != null; }
+
+    // Entity equality: employees (of any subclass) with the same id are equal
     @Override
     public boolean equals(Object obj) {
-        // Implementation needed
-       return false;
+        if (this == obj) return true;
+        if (!(obj instanceof Employee other)) return false;
+        return Objects.equals(getId(), other.getId());
     }
 
-    // TODO: Implement hashCode() method
+    // Id-based and cached, since employees are rehashed constantly as map keys.
+    // Changing the id of an employee that is already a key in a hash map breaks that map.
     @Override
     public int hashCode() {
+        int h = hash;
+        if (h == 0) {
+            h = spread(Objects.hashCode(getId()));
+            hash = h;
+        }
+        return h;
+    }
 
-        return 0;
+    void resetHash() {
+        hash = 0;
     }
 
-    // TODO: Implement compareTo() method (compare by salary)
+    // Murmur3 finalizer: sequential ids like E001, E002 differ only in their last
+    // characters, which String.hashCode maps to neighbouring values
+    private static int spread(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    // Natural ordering by salary; employees with equal salaries compare as 0
     @Override
     public int compareTo(Employee other) {
-        // Implementation needed
-        return 0;
+        return Double.compare(getSalary(), other.getSalary());
     }
 
-    // TODO: Implement toString() method
     @Override
     public String toString() {
-        // Implementation needed
-      return "";
+        return writeTo(new StringBuilder(96)).toString();
+    }
+
+    // Streams the toString() form without building intermediate Strings, so an
+    // exporter can reuse one buffer or write straight to a Writer. Subclasses
+    // that change toString() should override this method instead.
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        out.append("Employee{id='").append(getId())
+                .append("', name='").append(getName())
+                .append("', salary=");
+        appendDouble(out, getSalary());
+        out.append(", department=");
+        Department department = getDepartment();
+        if (department == null) {
+            out.append("null");
+        } else {
+            department.appendTo(out);
+        }
+        out.append(", skills=[");
+        List<String> skills = getSkills();
+        for (int i = 0; i < skills.size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            out.append(skills.get(i));
+        }
+        out.append("]}");
+        return out;
+    }
+
+    public StringBuilder writeTo(StringBuilder out) {
+        try {
+            return appendTo(out);
+        } catch (IOException e) {
+            throw new AssertionError("StringBuilder does not throw IOException", e);
+        }
+    }
+
+    // StringBuilder formats numbers in place; other Appendables need the String form
+    protected static void appendDouble(Appendable out, double value) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            builder.append(value);
+        } else {
+            out.append(String.valueOf(value));
+        }
+    }
+
+    protected static void appendInt(Appendable out, int value) throws IOException {
+        if (out instanceof StringBuilder builder) {
+            builder.append(value);
+        } else {
+            out.append(String.valueOf(value));
+        }
     }
 
-    // TODO: Implement shallow clone
+    // Shallow clone: department and skills list are shared with the original
     @Override
     public Employee clone() throws CloneNotSupportedException {
-        // Implementation needed
-        return null;
+        Employee cloned = (Employee) super.clone();
+        cloned.listeners = null;
+        return cloned;
     }
 
-    // TODO: Implement deep clone
+    // Deep clone: the department is copied and the skills list is an independent
+    // copy-on-write list, so cloning costs O(1) regardless of the number of skills
     public Employee deepClone() {
-        // Implementation needed
-      return null;
+        Department department = getDepartment();
+        return copyWith(department != null ? department.clone() : null);
+    }
+
+    // Deep clone that shares the registry's canonical department instead of copying it
+    public Employee deepClone(DepartmentRegistry registry) {
+        return copyWith(registry.intern(getDepartment()));
+    }
+
+    // Copy of this employee (keeping its runtime type) with the given department
+    Employee copyWith(Department department) {
+        try {
+            Employee cloned = (Employee) super.clone();
+            cloned.department = department;
+            cloned.skills = skills.copy();
+            cloned.listeners = null;
+            return cloned;
+        } catch (CloneNotSupportedException e) {
+            throw new AssertionError(e);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,346 @@
+package Employee;
+import java.util.*;
+import java.util.function.Function;
+
+import Department.Department;
+
+/**
+ * Bounded cache of employees by id in front of a slow loader, using the
+ * W-TinyLFU policy. New entries go into a small LRU window. Entries leaving the
+ * window must beat the main space's LRU victim on estimated access frequency to
+ * be admitted, so a burst of one-off lookups cannot flush the hot entries.
+ * Frequencies come from a 4-bit count-min sketch that halves itself periodically,
+ * so popularity ages out.
+ *
+ * <pre>
+ * window     ~1% of the weight, LRU
+ * probation  main entries seen once since admission, LRU
+ * protected  ~80% of the main weight, entries hit again while on probation, LRU
+ * </pre>
+ *
+ * An entry weighs 1 plus its number of skills. Cached employees are subscribed
+ * to: a change to their id, salary or department drops the entry, so the next
+ * lookup reloads it, and an added skill re-weighs it. Thread-safe; the loader
+ * runs outside the lock, so concurrent misses on one id may load it twice, but
+ * only the first load is cached and every caller gets that one.
+ */
+public class EmployeeCache {
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+
+    private final Function<String, ? extends Employee> loader;
+    private final long maximumWeight;
+    private final long windowMaximum;
+    private final long protectedMaximum;
+    private final Map<String, Node> nodes = new HashMap<>();
+    private final Node[] queues = {new Node(), new Node(), new Node()};
+    private final long[] queueWeights = new long[3];
+    private final FrequencySketch sketch;
+    private final Binding binding = new Binding();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+
+    public EmployeeCache(long maximumWeight, Function<String, ? extends Employee> loader) {
+        if (maximumWeight < 1) {
+            throw new IllegalArgumentException("Maximum weight must be positive: " + maximumWeight);
+        }
+        this.loader = loader;
+        this.maximumWeight = maximumWeight;
+        this.windowMaximum = Math.max(1, maximumWeight / 100);
+        this.protectedMaximum = (maximumWeight - windowMaximum) * 4 / 5;
+        this.sketch = new FrequencySketch(maximumWeight);
+        for (Node head : queues) {
+            head.prev = head;
+            head.next = head;
+        }
+    }
+
+    // Cached employee, or the loader's result (null if it has none)
+    public Employee get(String id) {
+        synchronized (this) {
+            Node node = nodes.get(id);
+            sketch.increment(id);
+            if (node != null) {
+                hits++;
+                onHit(node);
+                return node.employee;
+            }
+            misses++;
+        }
+        Employee loaded = loader.apply(id);
+        if (loaded != null) {
+            synchronized (this) {
+                Node node = nodes.get(id);
+                if (node != null) {
+                    // Another miss loaded it first; hand out the cached copy, not a detached duplicate
+                    return node.employee;
+                }
+                insert(id, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    // Does not load, count or touch the entry
+    public synchronized Employee getIfPresent(String id) {
+        Node node = nodes.get(id);
+        return node == null ? null : node.employee;
+    }
+
+    public synchronized void invalidate(String id) {
+        Node node = nodes.get(id);
+        if (node != null) {
+            invalidations++;
+            discard(node);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations += nodes.size();
+        for (Node node : new ArrayList<>(nodes.values())) {
+            discard(node);
+        }
+    }
+
+    public synchronized int size() { return nodes.size(); }
+
+    public synchronized long weightedSize() {
+        return queueWeights[WINDOW] + queueWeights[PROBATION] + queueWeights[PROTECTED];
+    }
+
+    public synchronized long getHitCount() { return hits; }
+    public synchronized long getMissCount() { return misses; }
+    public synchronized long getEvictionCount() { return evictions; }
+    public synchronized long getInvalidationCount() { return invalidations; }
+
+    public synchronized double hitRate() {
+        long requests = hits + misses;
+        return requests == 0 ? 1.0 : (double) hits / requests;
+    }
+
+    private static int weigh(Employee employee) {
+        return 1 + employee.getSkills().size();
+    }
+
+    private void onHit(Node node) {
+        switch (node.queue) {
+            case WINDOW, PROTECTED -> moveToTail(node, node.queue);
+            case PROBATION -> {
+                moveToTail(node, PROTECTED);
+                // Demote the protected LRU entries the promotion pushed over the limit
+                while (queueWeights[PROTECTED] > protectedMaximum) {
+                    moveToTail(queues[PROTECTED].next, PROBATION);
+                }
+            }
+        }
+    }
+
+    private void insert(String id, Employee employee) {
+        int weight = weigh(employee);
+        if (weight > maximumWeight) {
+            return;
+        }
+        Node node = new Node();
+        node.id = id;
+        node.employee = employee;
+        node.weight = weight;
+        node.queue = WINDOW;
+        linkTail(node);
+        nodes.put(id, node);
+        employee.addListener(binding);
+        evict();
+    }
+
+    // Window overflow moves to probation. While over the maximum, the entries that
+    // just left the window are admission candidates, oldest first: each competes on
+    // frequency with the main space's LRU victim, and the less frequent one goes.
+    // Entries demoted from protected land on probation too, but are never candidates.
+    private void evict() {
+        Node candidate = null;
+        while (queueWeights[WINDOW] > windowMaximum) {
+            Node node = queues[WINDOW].next;
+            moveToTail(node, PROBATION);
+            if (candidate == null) {
+                candidate = node;
+            }
+        }
+        while (weightedSize() > maximumWeight) {
+            if (candidate == null) {
+                // Nothing to admit (a re-weigh): plain LRU from probation, protected, then window
+                Node victim = queues[PROBATION].next != queues[PROBATION] ? queues[PROBATION].next
+                        : queues[PROTECTED].next != queues[PROTECTED] ? queues[PROTECTED].next : queues[WINDOW].next;
+                evictions++;
+                discard(victim);
+                continue;
+            }
+            Node victim = queues[PROBATION].next;
+            if (victim == candidate) {
+                // Probation holds only candidates, so they compete with protected
+                victim = queues[PROTECTED].next != queues[PROTECTED] ? queues[PROTECTED].next : null;
+            }
+            evictions++;
+            if (victim != null && sketch.frequency(candidate.id) > sketch.frequency(victim.id)) {
+                discard(victim);
+            } else {
+                // Later candidates follow this one at the probation tail
+                Node next = candidate.next;
+                discard(candidate);
+                candidate = next == queues[PROBATION] ? null : next;
+            }
+        }
+    }
+
+    private void discard(Node node) {
+        unlink(node);
+        nodes.remove(node.id);
+        node.employee.removeListener(binding);
+    }
+
+    private void reweigh(Node node) {
+        int weight = weigh(node.employee);
+        queueWeights[node.queue] += weight - node.weight;
+        node.weight = weight;
+        if (weight > maximumWeight) {
+            evictions++;
+            discard(node);
+        } else {
+            evict();
+        }
+    }
+
+    private void linkTail(Node node) {
+        Node head = queues[node.queue];
+        node.prev = head.prev;
+        node.next = head;
+        head.prev.next = node;
+        head.prev = node;
+        queueWeights[node.queue] += node.weight;
+    }
+
+    private void unlink(Node node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        queueWeights[node.queue] -= node.weight;
+    }
+
+    private void moveToTail(Node node, int queue) {
+        unlink(node);
+        node.queue = queue;
+        linkTail(node);
+    }
+
+    private static final class Node {
+        private String id;
+        private Employee employee;
+        private int weight;
+        private int queue;
+        private Node prev;
+        private Node next;
+    }
+
+    private final class Binding implements EmployeeListener {
+        @Override
+        public void idChanged(Employee employee, String oldId) {
+            invalidate(employee, oldId);
+        }
+
+        @Override
+        public void salaryChanged(Employee employee, double oldSalary) {
+            invalidate(employee, employee.getId());
+        }
+
+        @Override
+        public void departmentChanged(Employee employee, Department oldDepartment) {
+            invalidate(employee, employee.getId());
+        }
+
+        @Override
+        public void skillAdded(Employee employee, String skill) {
+            synchronized (EmployeeCache.this) {
+                Node node = nodes.get(employee.getId());
+                if (node != null && node.employee == employee) {
+                    reweigh(node);
+                }
+            }
+        }
+
+        private void invalidate(Employee employee, String id) {
+            synchronized (EmployeeCache.this) {
+                Node node = nodes.get(id);
+                if (node != null && node.employee == employee) {
+                    invalidations++;
+                    discard(node);
+                }
+            }
+        }
+    }
+
+    /**
+     * Count-min sketch of 4-bit counters, four per key, sixteen to a long. After
+     * ten increments per counter slot every counter is halved, so estimates
+     * favour recent popularity.
+     */
+    private static final class FrequencySketch {
+        private static final long[] SEEDS = {
+                0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+        private static final long HALF_MASK = 0x7777777777777777L;
+
+        private final long[] table;
+        private final int mask;
+        private final int sampleSize;
+        private int additions;
+
+        FrequencySketch(long expectedEntries) {
+            int counters = Integer.highestOneBit((int) Math.min(1 << 26, Math.max(64, expectedEntries)) - 1) << 1;
+            table = new long[counters / 16];
+            mask = counters - 1;
+            sampleSize = 10 * counters;
+        }
+
+        int frequency(String key) {
+            int hash = spread(key);
+            int frequency = 15;
+            for (int i = 0; i < 4; i++) {
+                int counter = index(hash, i);
+                frequency = Math.min(frequency, (int) ((table[counter >>> 4] >>> ((counter & 15) << 2)) & 15));
+            }
+            return frequency;
+        }
+
+        void increment(String key) {
+            int hash = spread(key);
+            boolean added = false;
+            for (int i = 0; i < 4; i++) {
+                int counter = index(hash, i);
+                int shift = (counter & 15) << 2;
+                int slot = counter >>> 4;
+                if (((table[slot] >>> shift) & 15) != 15) {
+                    table[slot] += 1L << shift;
+                    added = true;
+                }
+            }
+            if (added && ++additions == sampleSize) {
+                for (int i = 0; i < table.length; i++) {
+                    table[i] = (table[i] >>> 1) & HALF_MASK;
+                }
+                additions /= 2;
+            }
+        }
+
+        private int index(int hash, int i) {
+            long h = (hash + SEEDS[i]) * SEEDS[i];
+            return (int) (h ^ (h >>> 32)) & mask;
+        }
+
+        private static int spread(String key) {
+            int h = key == null ? 0 : key.hashCode();
+            h ^= h >>> 16;
+            h *= 0x45d9f3b;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package Employee;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.*;
+
+import Department.Department;
+
+/**
+ * Compact binary codec for employees, written by hand against {@link ByteBuffer}.
+ * Lengths and counts are varints, salaries and rates are fixed 8-byte doubles, and
+ * departments and skills are dictionary-encoded per stream: the first occurrence
+ * is written in full and later ones as a small reference, so an {@link Encoder}
+ * and the {@link Decoder} reading its output must see the same records in order.
+ *
+ * <pre>
+ * record      type, id, name, body
+ * employee    salary:double, department, skillCount:varint, skill*
+ * manager     employee, bonusPercentage:double
+ * contractor  hourlyRate:double, hoursWorked:zigzag, endDate, department, skillCount:varint, skill*
+ * string      varint length + 1 (0 for null), UTF-8 bytes
+ * department  varint 0 for null, n for entry n - 1, or next entry followed by name, location
+ * skill       varint entry index, or next index followed by the string
+ * endDate     varint 0 for none, else zigzag(epochDay) + 1
+ * </pre>
+ *
+ * Managers are written without their reports, as when cloned. Other subclasses,
+ * including flyweight rows, are written as plain employees. Each decoded
+ * employee gets its own Department; only the dictionary strings are shared.
+ */
+public final class EmployeeCodec {
+    private static final byte EMPLOYEE = 0;
+    private static final byte MANAGER = 1;
+    private static final byte CONTRACTOR = 2;
+
+    private EmployeeCodec() {
+    }
+
+    // Count followed by the records, in a buffer ready for reading
+    public static ByteBuffer encodeAll(Collection<? extends Employee> employees) {
+        ByteBuffer out = ByteBuffer.allocate(Math.max(64, employees.size() * 48));
+        writeVarLong(out, employees.size());
+        Encoder encoder = new Encoder();
+        for (Employee employee : employees) {
+            while (true) {
+                try {
+                    encoder.encode(employee, out);
+                    break;
+                } catch (BufferOverflowException e) {
+                    out = ByteBuffer.allocate(out.capacity() * 2).put(out.flip());
+                }
+            }
+        }
+        return out.flip();
+    }
+
+    public static List<Employee> decodeAll(ByteBuffer in) {
+        int count = (int) readVarLong(in);
+        List<Employee> employees = new ArrayList<>(count);
+        Decoder decoder = new Decoder();
+        for (int i = 0; i < count; i++) {
+            employees.add(decoder.decode(in));
+        }
+        return employees;
+    }
+
+    // A single department in full, outside any dictionary
+    public static void encodeDepartment(Department department, ByteBuffer out) {
+        out.put((byte) (department == null ? 0 : 1));
+        if (department != null) {
+            writeString(out, department.getName());
+            writeString(out, department.getLocation());
+        }
+    }
+
+    public static Department decodeDepartment(ByteBuffer in) {
+        return in.get() == 0 ? null : new Department(readString(in), readString(in));
+    }
+
+    public static final class Encoder {
+        private final Map<Department, Integer> departments = new HashMap<>();
+        private final List<Department> departmentOrder = new ArrayList<>();
+        private final Map<String, Integer> skills = new HashMap<>();
+        private final List<String> skillOrder = new ArrayList<>();
+
+        // On BufferOverflowException the buffer position and dictionaries are left as
+        // they were, so the caller can drain or grow the buffer and try again
+        public void encode(Employee employee, ByteBuffer out) {
+            int start = out.position();
+            int departmentCount = departmentOrder.size();
+            int skillCount = skillOrder.size();
+            try {
+                write(employee, out);
+            } catch (BufferOverflowException e) {
+                out.position(start);
+                while (departmentOrder.size() > departmentCount) {
+                    departments.remove(departmentOrder.remove(departmentOrder.size() - 1));
+                }
+                while (skillOrder.size() > skillCount) {
+                    skills.remove(skillOrder.remove(skillOrder.size() - 1));
+                }
+                throw e;
+            }
+        }
+
+        // Forgets the dictionaries, so the next record is written self-contained
+        public void reset() {
+            departments.clear();
+            departmentOrder.clear();
+            skills.clear();
+            skillOrder.clear();
+        }
+
+        private void write(Employee employee, ByteBuffer out) {
+            if (employee instanceof Contractor contractor) {
+                out.put(CONTRACTOR);
+                writeString(out, contractor.getId());
+                writeString(out, contractor.getName());
+                out.putDouble(contractor.getHourlyRate());
+                writeVarLong(out, zigzag(contractor.getHoursWorked()));
+                LocalDate endDate = contractor.getContractEndDate();
+                writeVarLong(out, endDate == null ? 0 : zigzag(endDate.toEpochDay()) + 1);
+                writeDepartmentAndSkills(contractor, out);
+                return;
+            }
+            out.put(employee instanceof Manager ? MANAGER : EMPLOYEE);
+            writeString(out, employee.getId());
+            writeString(out, employee.getName());
+            out.putDouble(employee.getSalary());
+            writeDepartmentAndSkills(employee, out);
+            if (employee instanceof Manager manager) {
+                out.putDouble(manager.getBonusPercentage());
+            }
+        }
+
+        private void writeDepartmentAndSkills(Employee employee, ByteBuffer out) {
+            Department department = employee.getDepartment();
+            if (department == null) {
+                writeVarLong(out, 0);
+            } else {
+                Integer index = departments.get(department);
+                if (index != null) {
+                    writeVarLong(out, index + 1);
+                } else {
+                    writeVarLong(out, departmentOrder.size() + 1);
+                    writeString(out, department.getName());
+                    writeString(out, department.getLocation());
+                    // Keyed by a copy so later changes to the employee's department cannot corrupt the map
+                    Department key = new Department(department.getName(), department.getLocation());
+                    departments.put(key, departmentOrder.size());
+                    departmentOrder.add(key);
+                }
+            }
+            List<String> employeeSkills = employee.getSkills();
+            writeVarLong(out, employeeSkills.size());
+            for (int i = 0; i < employeeSkills.size(); i++) {
+                String skill = employeeSkills.get(i);
+                Integer index = skills.get(skill);
+                if (index != null) {
+                    writeVarLong(out, index);
+                } else {
+                    writeVarLong(out, skillOrder.size());
+                    writeString(out, skill);
+                    skills.put(skill, skillOrder.size());
+                    skillOrder.add(skill);
+                }
+            }
+        }
+    }
+
+    public static final class Decoder {
+        // Name and location per department entry; Department is mutable, so each record gets a new one
+        private final List<String> departmentNames = new ArrayList<>();
+        private final List<String> departmentLocations = new ArrayList<>();
+        private final List<String> skills = new ArrayList<>();
+
+        // On BufferUnderflowException the buffer position and dictionaries are left as
+        // they were, so the caller can refill the buffer and try again
+        public Employee decode(ByteBuffer in) {
+            int start = in.position();
+            int departmentCount = departmentNames.size();
+            int skillCount = skills.size();
+            try {
+                return read(in);
+            } catch (BufferUnderflowException e) {
+                in.position(start);
+                departmentNames.subList(departmentCount, departmentNames.size()).clear();
+                departmentLocations.subList(departmentCount, departmentLocations.size()).clear();
+                skills.subList(skillCount, skills.size()).clear();
+                throw e;
+            }
+        }
+
+        // Pairs with Encoder.reset()
+        public void reset() {
+            departmentNames.clear();
+            departmentLocations.clear();
+            skills.clear();
+        }
+
+        private Employee read(ByteBuffer in) {
+            byte type = in.get();
+            String id = readString(in);
+            String name = readString(in);
+            Employee employee;
+            switch (type) {
+                case EMPLOYEE, MANAGER -> {
+                    double salary = in.getDouble();
+                    Department department = readDepartment(in);
+                    List<String> employeeSkills = readSkills(in);
+                    employee = type == MANAGER
+                            ? new Manager(id, name, salary, department, in.getDouble())
+                            : new Employee(id, name, salary, department);
+                    employeeSkills.forEach(employee::addSkill);
+                }
+                case CONTRACTOR -> {
+                    double hourlyRate = in.getDouble();
+                    long hours = unzigzag(readVarLong(in));
+                    long endDay = readVarLong(in);
+                    LocalDate endDate = endDay == 0 ? null : LocalDate.ofEpochDay(unzigzag(endDay - 1));
+                    Contractor contractor = new Contractor(id, name, hourlyRate, readDepartment(in), endDate);
+                    contractor.addHours(hours);
+                    readSkills(in).forEach(contractor::addSkill);
+                    employee = contractor;
+                }
+                default -> throw new IllegalArgumentException("Unknown employee record type: " + type);
+            }
+            return employee;
+        }
+
+        private Department readDepartment(ByteBuffer in) {
+            int ref = (int) readVarLong(in);
+            if (ref == 0) {
+                return null;
+            }
+            if (ref == departmentNames.size() + 1) {
+                departmentNames.add(readString(in));
+                departmentLocations.add(readString(in));
+            } else if (ref > departmentNames.size()) {
+                throw new IllegalArgumentException("Unknown department reference: " + ref);
+            }
+            return new Department(departmentNames.get(ref - 1), departmentLocations.get(ref - 1));
+        }
+
+        private List<String> readSkills(ByteBuffer in) {
+            int count = (int) readVarLong(in);
+            List<String> result = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int ref = (int) readVarLong(in);
+                if (ref == skills.size()) {
+                    skills.add(readString(in));
+                } else if (ref > skills.size()) {
+                    throw new IllegalArgumentException("Unknown skill reference: " + ref);
+                }
+                result.add(skills.get(ref));
+            }
+            return result;
+        }
+    }
+
+    static void writeVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    static void writeString(ByteBuffer out, String value) {
+        if (value == null) {
+            writeVarLong(out, 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length + 1L);
+        out.put(bytes);
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = (int) readVarLong(in) - 1;
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        String value;
+        if (in.hasArray()) {
+            value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            in.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,154 @@
+package Employee;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Function;
+
+import Department.Department;
+
+/**
+ * Thread-safe directory that owns employees by id. Employee itself is not
+ * thread-safe, so every update goes through the directory and runs under the
+ * write lock of one of a fixed set of lock stripes picked by id; updates to
+ * employees on different stripes never contend. Reads take the stripe's read
+ * lock (or an optimistic stamp for single salaries), so they always see a
+ * consistent employee, and {@link #get(String)} hands out deep-cloned snapshots
+ * so callers never touch the owned instances.
+ */
+public class EmployeeDirectory {
+    private static final int DEFAULT_STRIPES = 64;
+
+    private final ConcurrentHashMap<String, Employee> employees = new ConcurrentHashMap<>();
+    private final StampedLock[] stripes;
+
+    public EmployeeDirectory() {
+        this(DEFAULT_STRIPES);
+    }
+
+    public EmployeeDirectory(int stripes) {
+        // Round up to a power of two so a mask picks the stripe
+        int count = Integer.highestOneBit(Math.max(stripes - 1, 1)) << 1;
+        this.stripes = new StampedLock[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new StampedLock();
+        }
+    }
+
+    // Takes ownership of the employee; returns false if the id is already present
+    public boolean add(Employee employee) {
+        String id = Objects.requireNonNull(employee.getId(), "Employee id");
+        StampedLock lock = stripe(id);
+        long stamp = lock.writeLock();
+        try {
+            return employees.putIfAbsent(id, employee) == null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean remove(String id) {
+        StampedLock lock = stripe(id);
+        long stamp = lock.writeLock();
+        try {
+            return employees.remove(id) != null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public boolean contains(String id) { return employees.containsKey(id); }
+
+    public int size() { return employees.size(); }
+
+    public boolean setSalary(String id, double salary) {
+        return update(id, employee -> employee.setSalary(salary));
+    }
+
+    // Atomic read-modify-write, e.g. a raise: adjustSalary(id, s -> s * 1.05)
+    public boolean adjustSalary(String id, DoubleUnaryOperator adjustment) {
+        return update(id, employee -> employee.setSalary(adjustment.applyAsDouble(employee.getSalary())));
+    }
+
+    public boolean setDepartment(String id, Department department) {
+        return update(id, employee -> employee.setDepartment(department));
+    }
+
+    public boolean setName(String id, String name) {
+        return update(id, employee -> employee.setName(name));
+    }
+
+    public boolean addSkill(String id, String skill) {
+        return update(id, employee -> employee.addSkill(skill));
+    }
+
+    // Salary without blocking writers; NaN if the id is unknown
+    public double getSalary(String id) {
+        StampedLock lock = stripe(id);
+        long stamp = lock.tryOptimisticRead();
+        Employee employee = employees.get(id);
+        double salary = employee == null ? Double.NaN : employee.getSalary();
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                employee = employees.get(id);
+                salary = employee == null ? Double.NaN : employee.getSalary();
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return salary;
+    }
+
+    // Consistent deep copy of the employee, or null if the id is unknown. Concurrent
+    // deep clones only ever mark the skills list as shared, which is idempotent.
+    public Employee get(String id) {
+        return read(id, Employee::deepClone);
+    }
+
+    // Applies the function to the owned employee under the stripe's read lock.
+    // The function must not modify the employee or let it escape.
+    public <R> R read(String id, Function<Employee, R> reader) {
+        StampedLock lock = stripe(id);
+        long stamp = lock.readLock();
+        try {
+            Employee employee = employees.get(id);
+            return employee == null ? null : reader.apply(employee);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    // Deep copies of every employee, each one internally consistent
+    public List<Employee> snapshot() {
+        List<Employee> result = new ArrayList<>(employees.size());
+        for (String id : employees.keySet()) {
+            Employee employee = get(id);
+            if (employee != null) {
+                result.add(employee);
+            }
+        }
+        return result;
+    }
+
+    private boolean update(String id, Consumer<Employee> change) {
+        StampedLock lock = stripe(id);
+        long stamp = lock.writeLock();
+        try {
+            Employee employee = employees.get(id);
+            if (employee == null) {
+                return false;
+            }
+            change.accept(employee);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private StampedLock stripe(String id) {
+        int h = id.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+}
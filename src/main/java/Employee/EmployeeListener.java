@@ -0,0 +1,21 @@
+package Employee;
+
+import Department.Department;
+
+/**
+ * Callback for indexes and caches that need to follow changes made through
+ * {@link Employee}'s setters. Each method receives the employee (already holding
+ * the new value) and the previous value. Changes made directly on the list
+ * returned by {@link Employee#getSkills()} are not reported.
+ */
+public interface EmployeeListener {
+    default void idChanged(Employee employee, String oldId) { }
+
+    default void nameChanged(Employee employee, String oldName) { }
+
+    default void salaryChanged(Employee employee, double oldSalary) { }
+
+    default void departmentChanged(Employee employee, Department oldDepartment) { }
+
+    default void skillAdded(Employee employee, String skill) { }
+}
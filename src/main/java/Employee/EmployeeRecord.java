@@ -0,0 +1,201 @@
+package Employee;
+import java.util.*;
+
+import Department.Department;
+
+/**
+ * Immutable snapshot of an employee that can be handed between threads and
+ * services without defensive copies. The {@code with*} methods return a new
+ * record that shares every unchanged component with this one.
+ *
+ * Unlike {@link Employee}, equality is value-based over all fields. Since
+ * {@link Department} is mutable, the department is copied on the way in and on
+ * the way out; {@link #getDepartmentName()} and {@link #getDepartmentLocation()}
+ * read it without copying. Skills keep their insertion order and drop duplicates.
+ */
+public final class EmployeeRecord {
+    private final String id;
+    private final String name;
+    private final double salary;
+    // Private copy, never handed out
+    private final Department department;
+    private final SkillSet skills;
+
+    private EmployeeRecord(String id, String name, double salary, Department department, SkillSet skills) {
+        this.id = id;
+        this.name = name;
+        this.salary = salary;
+        this.department = department;
+        this.skills = skills;
+    }
+
+    public static EmployeeRecord from(Employee employee) {
+        return new EmployeeRecord(employee.getId(), employee.getName(), employee.getSalary(),
+                copy(employee.getDepartment()), SkillSet.of(employee.getSkills()));
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // New mutable employee; the department is copied so it cannot reach this record's state
+    public Employee toEmployee() {
+        Employee employee = new Employee(id, name, salary, copy(department));
+        for (String skill : skills) {
+            employee.addSkill(skill);
+        }
+        return employee;
+    }
+
+    public String getId() { return id; }
+
+    public String getName() { return name; }
+
+    public double getSalary() { return salary; }
+
+    public Department getDepartment() { return copy(department); }
+
+    public String getDepartmentName() { return department == null ? null : department.getName(); }
+
+    public String getDepartmentLocation() { return department == null ? null : department.getLocation(); }
+
+    // Unmodifiable
+    public Set<String> getSkills() { return skills; }
+
+    public boolean hasSkill(String skill) { return skills.contains(skill); }
+
+    public EmployeeRecord withId(String id) {
+        return new EmployeeRecord(id, name, salary, department, skills);
+    }
+
+    public EmployeeRecord withName(String name) {
+        return new EmployeeRecord(id, name, salary, department, skills);
+    }
+
+    public EmployeeRecord withSalary(double salary) {
+        return new EmployeeRecord(id, name, salary, department, skills);
+    }
+
+    public EmployeeRecord withDepartment(Department department) {
+        return new EmployeeRecord(id, name, salary, copy(department), skills);
+    }
+
+    public EmployeeRecord withSkill(String skill) {
+        if (skills.contains(skill)) {
+            return this;
+        }
+        return new EmployeeRecord(id, name, salary, department, skills.plus(skill));
+    }
+
+    public Builder toBuilder() {
+        return new Builder().id(id).name(name).salary(salary).department(department).skills(skills);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof EmployeeRecord other)) return false;
+        return Double.compare(salary, other.salary) == 0
+                && Objects.equals(id, other.id)
+                && Objects.equals(name, other.name)
+                && Objects.equals(department, other.department)
+                && skills.equals(other.skills);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name, salary, department, skills);
+    }
+
+    @Override
+    public String toString() {
+        return "EmployeeRecord{id='" + id + "', name='" + name + "', salary=" + salary
+                + ", department=" + department + ", skills=" + skills + '}';
+    }
+
+    private static Department copy(Department department) {
+        return department == null ? null : department.clone();
+    }
+
+    public static final class Builder {
+        private String id;
+        private String name;
+        private double salary;
+        private Department department;
+        private final LinkedHashSet<String> skills = new LinkedHashSet<>();
+
+        private Builder() {
+        }
+
+        public Builder id(String id) { this.id = id; return this; }
+
+        public Builder name(String name) { this.name = name; return this; }
+
+        public Builder salary(double salary) { this.salary = salary; return this; }
+
+        public Builder department(Department department) { this.department = department; return this; }
+
+        public Builder skill(String skill) { this.skills.add(skill); return this; }
+
+        public Builder skills(Collection<String> skills) { this.skills.addAll(skills); return this; }
+
+        public EmployeeRecord build() {
+            return new EmployeeRecord(id, name, salary, copy(department), SkillSet.of(skills));
+        }
+    }
+
+    // Immutable insertion-ordered set over an array; linear contains is fine for a handful of skills
+    private static final class SkillSet extends AbstractSet<String> {
+        private static final SkillSet EMPTY = new SkillSet(new String[0]);
+
+        private final String[] elements;
+
+        private SkillSet(String[] elements) {
+            this.elements = elements;
+        }
+
+        static SkillSet of(Collection<String> skills) {
+            if (skills.isEmpty()) {
+                return EMPTY;
+            }
+            return new SkillSet(new LinkedHashSet<>(skills).toArray(new String[0]));
+        }
+
+        SkillSet plus(String skill) {
+            String[] grown = Arrays.copyOf(elements, elements.length + 1);
+            grown[elements.length] = skill;
+            return new SkillSet(grown);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            for (String element : elements) {
+                if (Objects.equals(element, o)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() { return next < elements.length; }
+
+                @Override
+                public String next() {
+                    if (next == elements.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return elements[next++];
+                }
+            };
+        }
+
+        @Override
+        public int size() { return elements.length; }
+    }
+}
@@ -0,0 +1,460 @@
+package Employee;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Durable employee store backed by a segmented write-ahead log in one local
+ * directory. Every put or remove is appended to the log and forced to disk
+ * before the call returns. Callers that arrive while a force is in progress
+ * queue behind it, and the next force covers all of them (group commit).
+ * Every {@code checkpointSegments} full segments the whole state is written to
+ * a snapshot with {@link EmployeeCodec}, and the segments before it are deleted.
+ * Opening the directory loads the newest snapshot and replays the log after it.
+ *
+ * <pre>
+ * wal-N.log       record*, N increasing from 1
+ * record          payloadLength:int, crc32c(payload):int, payload
+ * payload         PUT, EmployeeCodec record (self-contained) | REMOVE, id:string
+ * snapshot-N.ckp  magic:int, bodyLength:int, crc32c(body):int, body = EmployeeCodec.encodeAll
+ *                 (the state before segment N, so recovery replays segments N and later)
+ * </pre>
+ *
+ * A torn record at the end of the last segment, from a crash mid-write, is
+ * truncated on recovery, and writing resumes at the end of that segment. A bad
+ * record anywhere else fails the open.
+ *
+ * The repository keeps its own deep copies. Changes to an employee are only
+ * persisted by putting it again, and {@link #get} returns a copy. Thread-safe.
+ */
+public class EmployeeRepository implements AutoCloseable {
+    private static final byte PUT = 0;
+    private static final byte REMOVE = 1;
+    private static final int RECORD_HEADER = 8;
+    private static final int SNAPSHOT_MAGIC = 0x454D5043; // "EMPC"
+    private static final int SNAPSHOT_HEADER = 12;
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final int checkpointSegments;
+
+    // Guarded by this: the state, and records appended to it but not yet written
+    private final Map<String, Employee> employees = new HashMap<>();
+    private final EmployeeCodec.Encoder encoder = new EmployeeCodec.Encoder();
+    private final CRC32C checksum = new CRC32C();
+    private ByteBuffer pending = ByteBuffer.allocate(1 << 16);
+    private long appended;
+
+    // Guarded by io: the open segment and everything written to disk
+    private final Object io = new Object();
+    private ByteBuffer spare = ByteBuffer.allocate(1 << 16);
+    private FileChannel segment;
+    private long segmentNumber;
+    private long segmentSize;
+    private int fullSegments;
+    private long commits;
+    private volatile long durable;
+    // Set under this as well as io, so an append either sees it or is written by close()
+    private volatile boolean closed;
+
+    // 64 MiB segments, checkpoint every 4 segments
+    public EmployeeRepository(Path directory) throws IOException {
+        this(directory, 64L << 20, 4);
+    }
+
+    public EmployeeRepository(Path directory, long segmentBytes, int checkpointSegments) throws IOException {
+        if (segmentBytes < 1 || segmentBytes > 1L << 30) {
+            throw new IllegalArgumentException("Segment size must be between 1 and 2^30 bytes: " + segmentBytes);
+        }
+        if (checkpointSegments < 1) {
+            throw new IllegalArgumentException("Checkpoint interval must be positive: " + checkpointSegments);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        this.checkpointSegments = checkpointSegments;
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    // Durable when this returns
+    public void put(Employee employee) throws IOException {
+        Employee copy = employee.deepClone();
+        long sequence;
+        synchronized (this) {
+            sequence = append(PUT, copy, null);
+            employees.put(copy.getId(), copy);
+        }
+        commit(sequence);
+    }
+
+    // Durable when this returns, with a single force; a crash mid-batch may keep a prefix of it
+    public void putAll(Collection<? extends Employee> batch) throws IOException {
+        List<Employee> copies = new ArrayList<>(batch.size());
+        for (Employee employee : batch) {
+            copies.add(employee.deepClone());
+        }
+        long sequence;
+        synchronized (this) {
+            sequence = appended;
+            for (Employee copy : copies) {
+                sequence = append(PUT, copy, null);
+                employees.put(copy.getId(), copy);
+            }
+        }
+        commit(sequence);
+    }
+
+    // False, without writing to the log, if no employee has the id
+    public boolean remove(String id) throws IOException {
+        long sequence;
+        synchronized (this) {
+            if (!employees.containsKey(id)) {
+                return false;
+            }
+            sequence = append(REMOVE, null, id);
+            employees.remove(id);
+        }
+        commit(sequence);
+        return true;
+    }
+
+    public synchronized Employee get(String id) {
+        Employee employee = employees.get(id);
+        return employee == null ? null : employee.deepClone();
+    }
+
+    public synchronized boolean contains(String id) {
+        return employees.containsKey(id);
+    }
+
+    public synchronized int size() {
+        return employees.size();
+    }
+
+    // Number of forces of the log so far, lower than the number of writes under group commit
+    public long getCommitCount() {
+        synchronized (io) {
+            return commits;
+        }
+    }
+
+    // Writes a snapshot of the current state and deletes the log before it
+    public void checkpoint() throws IOException {
+        synchronized (io) {
+            ensureOpen();
+            checkpointLocked();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (io) {
+            if (closed) {
+                return;
+            }
+            synchronized (this) {
+                closed = true;
+            }
+            try {
+                // Everything appended before the flag was set, so no put is left unlogged
+                writePending();
+            } finally {
+                segment.close();
+            }
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Repository is closed");
+        }
+    }
+
+    // Holds this. Frames one record into the pending buffer and returns its sequence.
+    private long append(byte type, Employee employee, String id) {
+        ensureOpen();
+        while (true) {
+            int start = pending.position();
+            try {
+                if (pending.remaining() < RECORD_HEADER + 1) {
+                    throw new BufferOverflowException();
+                }
+                pending.position(start + RECORD_HEADER);
+                pending.put(type);
+                if (type == PUT) {
+                    encoder.reset();
+                    encoder.encode(employee, pending);
+                } else {
+                    EmployeeCodec.writeString(pending, id);
+                }
+                int length = pending.position() - start - RECORD_HEADER;
+                checksum.reset();
+                checksum.update(pending.array(), start + RECORD_HEADER, length);
+                pending.putInt(start, length).putInt(start + 4, (int) checksum.getValue());
+                return ++appended;
+            } catch (BufferOverflowException e) {
+                pending.position(start);
+                pending = ByteBuffer.allocate(pending.capacity() * 2).put(pending.flip());
+            }
+        }
+    }
+
+    // Returns once the record with this sequence is on disk. The first caller to
+    // find it pending writes and forces everything appended so far; callers that
+    // queued behind that force usually find their records already covered.
+    private void commit(long sequence) throws IOException {
+        if (durable >= sequence) {
+            return;
+        }
+        synchronized (io) {
+            if (durable >= sequence) {
+                return;
+            }
+            ensureOpen();
+            try {
+                writePending();
+                if (segmentSize >= segmentBytes) {
+                    if (++fullSegments >= checkpointSegments) {
+                        checkpointLocked();
+                    } else {
+                        rollSegment();
+                    }
+                }
+            } catch (IOException e) {
+                // The state may be ahead of the log now, so refuse further writes
+                synchronized (this) {
+                    closed = true;
+                }
+                segment.close();
+                throw e;
+            }
+        }
+    }
+
+    // Holds io
+    private void writePending() throws IOException {
+        ByteBuffer batch;
+        long upTo;
+        synchronized (this) {
+            batch = pending;
+            pending = spare;
+            upTo = appended;
+        }
+        write(batch, upTo);
+    }
+
+    // Holds io. Writes and forces a batch taken from pending, records up to upTo.
+    private void write(ByteBuffer batch, long upTo) throws IOException {
+        batch.flip();
+        if (batch.hasRemaining()) {
+            segmentSize += batch.remaining();
+            while (batch.hasRemaining()) {
+                segment.write(batch);
+            }
+            segment.force(false);
+            commits++;
+        }
+        durable = upTo;
+        spare = batch.clear();
+    }
+
+    // Holds io. The pending records and the state are taken together under this,
+    // so the snapshot is exactly the log up to the new segment: records appended
+    // afterwards stay pending until the new segment is open. Writing, rolling and
+    // encoding happen outside this, so appends are held off only for the copy;
+    // the copied values are the repository's own and are replaced, never mutated.
+    private void checkpointLocked() throws IOException {
+        ByteBuffer batch;
+        long upTo;
+        List<Employee> state;
+        synchronized (this) {
+            batch = pending;
+            pending = spare;
+            upTo = appended;
+            state = new ArrayList<>(employees.values());
+        }
+        write(batch, upTo);
+        rollSegment();
+        long number = segmentNumber;
+        ByteBuffer body = EmployeeCodec.encodeAll(state);
+        CRC32C crc = new CRC32C();
+        crc.update(body.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(SNAPSHOT_HEADER)
+                .putInt(SNAPSHOT_MAGIC).putInt(body.remaining()).putInt((int) crc.getValue()).flip();
+        Path temp = directory.resolve(snapshotName(number) + ".tmp");
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (header.hasRemaining() || body.hasRemaining()) {
+                out.write(new ByteBuffer[]{header, body});
+            }
+            out.force(true);
+        }
+        Files.move(temp, directory.resolve(snapshotName(number)), StandardCopyOption.ATOMIC_MOVE);
+        syncDirectory();
+        deleteBefore(number);
+        fullSegments = 0;
+    }
+
+    // Holds io
+    private void rollSegment() throws IOException {
+        if (segment != null) {
+            segment.close();
+        }
+        segmentNumber++;
+        segment = FileChannel.open(directory.resolve(segmentName(segmentNumber)),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segmentSize = 0;
+        syncDirectory();
+    }
+
+    private void recover() throws IOException {
+        TreeSet<Long> segments = new TreeSet<>();
+        TreeSet<Long> snapshots = new TreeSet<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (name.startsWith("wal-") && name.endsWith(".log")) {
+                    segments.add(Long.parseLong(name, 4, name.length() - 4, 10));
+                } else if (name.startsWith("snapshot-") && name.endsWith(".ckp")) {
+                    snapshots.add(Long.parseLong(name, 9, name.length() - 4, 10));
+                } else if (name.endsWith(".ckp.tmp")) {
+                    // Checkpoint interrupted before its rename
+                    Files.delete(file);
+                }
+            }
+        }
+        long start = 0;
+        if (!snapshots.isEmpty()) {
+            start = snapshots.last();
+            loadSnapshot(directory.resolve(snapshotName(start)));
+            deleteBefore(start);
+        }
+        SortedSet<Long> replay = segments.tailSet(start);
+        for (long number : replay) {
+            replaySegment(directory.resolve(segmentName(number)), number == replay.last());
+        }
+        if (replay.isEmpty()) {
+            segmentNumber = Math.max(start, segments.isEmpty() ? 0 : segments.last());
+            rollSegment();
+            return;
+        }
+        // Keep appending to the last segment, after any torn tail was cut off, so
+        // frequent reopens do not leave a trail of small segments; the ones before
+        // it count toward the next checkpoint
+        segmentNumber = replay.last();
+        segment = FileChannel.open(directory.resolve(segmentName(segmentNumber)),
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segmentSize = segment.size();
+        fullSegments = replay.size() - 1;
+    }
+
+    private void loadSnapshot(Path path) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (in.remaining() < SNAPSHOT_HEADER || in.getInt() != SNAPSHOT_MAGIC) {
+            throw new IOException("Not a repository snapshot: " + path);
+        }
+        int length = in.getInt();
+        int crc = in.getInt();
+        if (length != in.remaining()) {
+            throw new IOException("Truncated snapshot: " + path);
+        }
+        CRC32C actual = new CRC32C();
+        actual.update(in.duplicate());
+        if ((int) actual.getValue() != crc) {
+            throw new IOException("Corrupt snapshot: " + path);
+        }
+        for (Employee employee : EmployeeCodec.decodeAll(in)) {
+            employees.put(employee.getId(), employee);
+        }
+    }
+
+    private void replaySegment(Path path, boolean last) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(path));
+        EmployeeCodec.Decoder decoder = new EmployeeCodec.Decoder();
+        while (in.hasRemaining()) {
+            int start = in.position();
+            if (!replayRecord(in, decoder)) {
+                if (!last) {
+                    throw new IOException("Corrupt record at offset " + start + " in " + path);
+                }
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    channel.truncate(start);
+                    channel.force(true);
+                }
+                return;
+            }
+        }
+    }
+
+    // False for a torn or corrupt record, leaving the state untouched
+    private boolean replayRecord(ByteBuffer in, EmployeeCodec.Decoder decoder) {
+        if (in.remaining() < RECORD_HEADER) {
+            return false;
+        }
+        int length = in.getInt();
+        int crc = in.getInt();
+        if (length < 1 || length > in.remaining()) {
+            return false;
+        }
+        checksum.reset();
+        checksum.update(in.array(), in.position(), length);
+        if ((int) checksum.getValue() != crc) {
+            return false;
+        }
+        ByteBuffer payload = in.slice(in.position(), length);
+        in.position(in.position() + length);
+        try {
+            byte type = payload.get();
+            if (type == PUT) {
+                decoder.reset();
+                Employee employee = decoder.decode(payload);
+                employees.put(employee.getId(), employee);
+            } else if (type == REMOVE) {
+                employees.remove(EmployeeCodec.readString(payload));
+            } else {
+                return false;
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException e) {
+            return false;
+        }
+        return true;
+    }
+
+    // Removes segments and snapshots superseded by snapshot n
+    private void deleteBefore(long n) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if ((name.startsWith("wal-") && name.endsWith(".log")
+                        && Long.parseLong(name, 4, name.length() - 4, 10) < n)
+                        || (name.startsWith("snapshot-") && name.endsWith(".ckp")
+                        && Long.parseLong(name, 9, name.length() - 4, 10) < n)) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    // Makes file creation and renames durable; not supported on every platform
+    private void syncDirectory() {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Best effort
+        }
+    }
+
+    private static String segmentName(long number) {
+        return String.format("wal-%016d.log", number);
+    }
+
+    private static String snapshotName(long number) {
+        return String.format("snapshot-%016d.ckp", number);
+    }
+}
@@ -0,0 +1,407 @@
+package Employee;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+import Department.Department;
+
+/**
+ * Read-only, memory-mapped snapshot of a roster. Columns are fixed width so
+ * lookups by row read straight from the mapping; strings are only decoded
+ * when asked for.
+ *
+ * <pre>
+ * header      magic, version, count, departmentCount, skillCount, skillWords, section offsets
+ * salaries    double[count]
+ * skillBits   long[count * skillWords]
+ * deptCodes   int[count]             (-1 for no department)
+ * idRefs      int[count]             string heap offsets
+ * nameRefs    int[count]
+ * idOrder     int[count]             rows sorted by id, for binary search
+ * deptRefs    int[departmentCount * 2]  name and location
+ * skillRefs   int[skillCount]
+ * strings     (int length, UTF-8 bytes)*, length -1 for null
+ * </pre>
+ *
+ * Like {@link EmployeeStore}, skills are stored as a set per row.
+ */
+public class EmployeeSnapshot implements AutoCloseable {
+    private static final int MAGIC = 0x454D5053; // "EMPS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+
+    // Volatile so a close() on one thread is seen by readers on others
+    private volatile MappedByteBuffer buffer;
+    private final int count;
+    private final int skillWords;
+    private final int salariesOffset;
+    private final int skillBitsOffset;
+    private final int deptCodesOffset;
+    private final int idRefsOffset;
+    private final int nameRefsOffset;
+    private final int idOrderOffset;
+    private final int deptRefsOffset;
+    private final int skillRefsOffset;
+    // Decoded department strings per code; immutable, so racy caching is safe
+    private final DepartmentStrings[] departments;
+    private final String[] skills;
+    // Built on first lookup and published whole, so readers never see a half-filled map
+    private volatile Map<String, Integer> skillOrdinals;
+
+    private EmployeeSnapshot(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not an employee snapshot");
+        }
+        this.count = buffer.getInt(8);
+        this.departments = new DepartmentStrings[buffer.getInt(12)];
+        this.skills = new String[buffer.getInt(16)];
+        this.skillWords = buffer.getInt(20);
+        this.salariesOffset = HEADER_SIZE;
+        this.skillBitsOffset = buffer.getInt(24);
+        this.deptCodesOffset = buffer.getInt(28);
+        this.idRefsOffset = buffer.getInt(32);
+        this.nameRefsOffset = buffer.getInt(36);
+        this.idOrderOffset = buffer.getInt(40);
+        this.deptRefsOffset = buffer.getInt(44);
+        this.skillRefsOffset = buffer.getInt(48);
+    }
+
+    public static EmployeeSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long length = channel.size();
+            if (length > Integer.MAX_VALUE || length < HEADER_SIZE) {
+                throw new IOException("Unsupported snapshot size: " + length);
+            }
+            // The mapping stays valid after the channel is closed
+            return new EmployeeSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, length));
+        }
+    }
+
+    public static void write(Path path, Collection<? extends Employee> employees) throws IOException {
+        int count = employees.size();
+        Map<String, Integer> stringRefs = new HashMap<>();
+        List<byte[]> heap = new ArrayList<>();
+        int[] heapSize = {0};
+        Map<List<String>, Integer> departmentCodes = new LinkedHashMap<>();
+        Map<String, Integer> skillOrdinals = new LinkedHashMap<>();
+
+        Employee[] rows = employees.toArray(new Employee[0]);
+        int[] idRefs = new int[count];
+        int[] nameRefs = new int[count];
+        int[] deptCodes = new int[count];
+        for (int i = 0; i < count; i++) {
+            Employee employee = rows[i];
+            idRefs[i] = intern(employee.getId(), stringRefs, heap, heapSize);
+            nameRefs[i] = intern(employee.getName(), stringRefs, heap, heapSize);
+            Department department = employee.getDepartment();
+            if (department == null) {
+                deptCodes[i] = -1;
+            } else {
+                List<String> key = Arrays.asList(department.getName(), department.getLocation());
+                deptCodes[i] = departmentCodes.computeIfAbsent(key, k -> departmentCodes.size());
+            }
+            for (String skill : employee.getSkills()) {
+                skillOrdinals.computeIfAbsent(skill, s -> skillOrdinals.size());
+            }
+        }
+        int[] deptRefs = new int[departmentCodes.size() * 2];
+        int d = 0;
+        for (List<String> key : departmentCodes.keySet()) {
+            deptRefs[d++] = intern(key.get(0), stringRefs, heap, heapSize);
+            deptRefs[d++] = intern(key.get(1), stringRefs, heap, heapSize);
+        }
+        int[] skillRefs = new int[skillOrdinals.size()];
+        int s = 0;
+        for (String skill : skillOrdinals.keySet()) {
+            skillRefs[s++] = intern(skill, stringRefs, heap, heapSize);
+        }
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> compareIds(rows[a].getId(), rows[b].getId()));
+
+        int skillWords = Math.max(1, (skillOrdinals.size() + 63) >>> 6);
+        long skillBitsOffset = HEADER_SIZE + 8L * count;
+        long deptCodesOffset = skillBitsOffset + 8L * count * skillWords;
+        long idRefsOffset = deptCodesOffset + 4L * count;
+        long nameRefsOffset = idRefsOffset + 4L * count;
+        long idOrderOffset = nameRefsOffset + 4L * count;
+        long deptRefsOffset = idOrderOffset + 4L * count;
+        long skillRefsOffset = deptRefsOffset + 4L * deptRefs.length;
+        long stringsOffset = skillRefsOffset + 4L * skillRefs.length;
+        long length = stringsOffset + heapSize[0];
+        if (length > Integer.MAX_VALUE) {
+            throw new IOException("Roster too large for a single snapshot: " + length + " bytes");
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer out = channel.map(FileChannel.MapMode.READ_WRITE, 0, length);
+            out.putInt(MAGIC).putInt(VERSION).putInt(count)
+                    .putInt(departmentCodes.size()).putInt(skillOrdinals.size()).putInt(skillWords)
+                    .putInt((int) skillBitsOffset).putInt((int) deptCodesOffset)
+                    .putInt((int) idRefsOffset).putInt((int) nameRefsOffset).putInt((int) idOrderOffset)
+                    .putInt((int) deptRefsOffset).putInt((int) skillRefsOffset);
+            out.position(HEADER_SIZE);
+            for (Employee employee : rows) {
+                out.putDouble(employee.getSalary());
+            }
+            long[] bits = new long[skillWords];
+            for (Employee employee : rows) {
+                Arrays.fill(bits, 0);
+                for (String skill : employee.getSkills()) {
+                    int ordinal = skillOrdinals.get(skill);
+                    bits[ordinal >>> 6] |= 1L << ordinal;
+                }
+                for (long word : bits) {
+                    out.putLong(word);
+                }
+            }
+            putInts(out, deptCodes);
+            putInts(out, stringOffsets(idRefs, (int) stringsOffset));
+            putInts(out, stringOffsets(nameRefs, (int) stringsOffset));
+            for (Integer row : order) {
+                out.putInt(row);
+            }
+            putInts(out, stringOffsets(deptRefs, (int) stringsOffset));
+            putInts(out, stringOffsets(skillRefs, (int) stringsOffset));
+            for (byte[] bytes : heap) {
+                if (bytes == null) {
+                    out.putInt(-1);
+                } else {
+                    out.putInt(bytes.length).put(bytes);
+                }
+            }
+            out.force();
+        }
+    }
+
+    public int size() { return count; }
+
+    public double getSalary(int row) {
+        return buffer().getDouble(salariesOffset + 8 * checkRow(row));
+    }
+
+    public int departmentCode(int row) {
+        return buffer().getInt(deptCodesOffset + 4 * checkRow(row));
+    }
+
+    // A new Department per call, since Department is mutable; its strings are
+    // decoded once per code
+    public Department getDepartment(int row) {
+        int code = departmentCode(row);
+        if (code < 0) {
+            return null;
+        }
+        DepartmentStrings strings = departments[code];
+        if (strings == null) {
+            ByteBuffer b = buffer();
+            strings = new DepartmentStrings(readString(b.getInt(deptRefsOffset + 8 * code)),
+                    readString(b.getInt(deptRefsOffset + 8 * code + 4)));
+            departments[code] = strings;
+        }
+        return new Department(strings.name(), strings.location());
+    }
+
+    public String getId(int row) {
+        return readString(buffer().getInt(idRefsOffset + 4 * checkRow(row)));
+    }
+
+    public String getName(int row) {
+        return readString(buffer().getInt(nameRefsOffset + 4 * checkRow(row)));
+    }
+
+    public boolean hasSkill(int row, String skill) {
+        int base = skillBitsOffset + 8 * skillWords * checkRow(row);
+        Map<String, Integer> ordinals = skillOrdinals;
+        if (ordinals == null) {
+            // The skill dictionary is small, so it is decoded in full on first lookup
+            ordinals = new HashMap<>();
+            for (int ordinal = 0; ordinal < skills.length; ordinal++) {
+                ordinals.put(skill(ordinal), ordinal);
+            }
+            skillOrdinals = ordinals;
+        }
+        Integer ordinal = ordinals.get(skill);
+        return ordinal != null && (buffer().getLong(base + 8 * (ordinal >>> 6)) & (1L << ordinal)) != 0;
+    }
+
+    public List<String> getSkills(int row) {
+        ByteBuffer b = buffer();
+        int base = skillBitsOffset + 8 * skillWords * checkRow(row);
+        List<String> result = new ArrayList<>();
+        for (int w = 0; w < skillWords; w++) {
+            long word = b.getLong(base + 8 * w);
+            while (word != 0) {
+                result.add(skill((w << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    // Binary search over the id-sorted row order; -1 if absent
+    public int rowOf(String id) {
+        ByteBuffer b = buffer();
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int row = b.getInt(idOrderOffset + 4 * mid);
+            int cmp = compareIds(getId(row), id);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    // Read-only flyweight view over a row
+    public Employee get(int row) {
+        return new Row(checkRow(row));
+    }
+
+    public Employee find(String id) {
+        int row = rowOf(id);
+        return row < 0 ? null : new Row(row);
+    }
+
+    @Override
+    public void close() {
+        buffer = null;
+    }
+
+    private String skill(int ordinal) {
+        String skill = skills[ordinal];
+        if (skill == null) {
+            skill = readString(buffer().getInt(skillRefsOffset + 4 * ordinal));
+            skills[ordinal] = skill;
+        }
+        return skill;
+    }
+
+    private String readString(int offset) {
+        ByteBuffer b = buffer();
+        int length = b.getInt(offset);
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        b.get(offset + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private ByteBuffer buffer() {
+        if (buffer == null) {
+            throw new IllegalStateException("Snapshot is closed");
+        }
+        return buffer;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= count) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + count);
+        }
+        return row;
+    }
+
+    private record DepartmentStrings(String name, String location) {
+    }
+
+    private static int compareIds(String a, String b) {
+        if (a == null || b == null) {
+            return a == null ? (b == null ? 0 : -1) : 1;
+        }
+        return a.compareTo(b);
+    }
+
+    // Returns the heap index of the string, adding it on first use; null strings get their own entry
+    private static int intern(String value, Map<String, Integer> refs, List<byte[]> heap, int[] heapSize) {
+        Integer ref = refs.get(value);
+        if (ref == null) {
+            byte[] bytes = value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+            ref = heapSize[0];
+            heap.add(bytes);
+            heapSize[0] += 4 + (bytes == null ? 0 : bytes.length);
+            refs.put(value, ref);
+        }
+        return ref;
+    }
+
+    private static int[] stringOffsets(int[] refs, int stringsOffset) {
+        int[] offsets = new int[refs.length];
+        for (int i = 0; i < refs.length; i++) {
+            offsets[i] = stringsOffset + refs[i];
+        }
+        return offsets;
+    }
+
+    private static void putInts(ByteBuffer out, int[] values) {
+        for (int value : values) {
+            out.putInt(value);
+        }
+    }
+
+    private final class Row extends Employee {
+        private final int row;
+
+        private Row(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String getId() { return EmployeeSnapshot.this.getId(row); }
+
+        @Override
+        public void setId(String id) { throw readOnly(); }
+
+        @Override
+        public String getName() { return EmployeeSnapshot.this.getName(row); }
+
+        @Override
+        public void setName(String name) { throw readOnly(); }
+
+        @Override
+        public double getSalary() { return EmployeeSnapshot.this.getSalary(row); }
+
+        @Override
+        public void setSalary(double salary) { throw readOnly(); }
+
+        @Override
+        public Department getDepartment() { return EmployeeSnapshot.this.getDepartment(row); }
+
+        @Override
+        public void setDepartment(Department department) { throw readOnly(); }
+
+        @Override
+        public List<String> getSkills() { return Collections.unmodifiableList(EmployeeSnapshot.this.getSkills(row)); }
+
+        @Override
+        public void addSkill(String skill) { throw readOnly(); }
+
+        // Copies are detached from the mapping and mutable
+        @Override
+        Employee copyWith(Department department) {
+            Employee copy = new Employee(getId(), getName(), getSalary(), department);
+            for (String skill : EmployeeSnapshot.this.getSkills(row)) {
+                copy.addSkill(skill);
+            }
+            return copy;
+        }
+
+        private UnsupportedOperationException readOnly() {
+            return new UnsupportedOperationException("Snapshot rows are read-only");
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package Employee;
+import java.util.*;
+
+import Department.Department;
+import Department.DepartmentRegistry;
+
+/**
+ * Column-oriented storage for large rosters. Every employee is a row index into
+ * parallel primitive arrays; departments, ids and skills are dictionary-encoded.
+ * {@link #get(int)} hands out a flyweight {@link Employee} that reads and writes
+ * the columns directly.
+ *
+ * Listeners belong to the row, not to the view they were added through: the
+ * first subscription makes that view the row's observed view, which lookups
+ * return from then on (so indexes keep seeing the same object), and every
+ * view's setters notify it. Unobserved rows still get a fresh view per lookup.
+ */
+public class EmployeeStore {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private int size;
+    private String[] ids;
+    private String[] names;
+    private double[] salaries;
+    private int[] departmentCodes;
+
+    // Skills are packed as a bitset per row, skillStride longs wide
+    private long[] skillBits;
+    private int skillStride;
+
+    // Observed view per row, null until the first listener is added anywhere
+    private Row[] observed;
+
+    // Open-addressing id index: row numbers probed linearly from the id's hash and
+    // matched against ids[row], -1 for an empty slot; at most half full
+    private int[] idTable;
+    private final DepartmentRegistry departments;
+    private final List<String> skills = new ArrayList<>();
+    private final Map<String, Integer> skillToOrdinal = new HashMap<>();
+
+    public EmployeeStore() {
+        this(INITIAL_CAPACITY);
+    }
+
+    public EmployeeStore(int capacity) {
+        this(capacity, new DepartmentRegistry());
+    }
+
+    // Department codes are the registry's ids, so stores sharing a registry share codes
+    public EmployeeStore(int capacity, DepartmentRegistry departments) {
+        capacity = Math.max(capacity, 1);
+        this.departments = departments;
+        this.ids = new String[capacity];
+        this.names = new String[capacity];
+        this.salaries = new double[capacity];
+        this.departmentCodes = new int[capacity];
+        this.skillStride = 1;
+        this.skillBits = new long[capacity];
+        this.idTable = new int[Integer.highestOneBit(capacity) << 2];
+        Arrays.fill(idTable, -1);
+    }
+
+    // Copies the employee into the columns and returns its row
+    public int add(Employee employee) {
+        String id = employee.getId();
+        if (rowOf(id) >= 0) {
+            throw new IllegalArgumentException("Duplicate employee id: " + id);
+        }
+        ensureCapacity(size + 1);
+        int row = size++;
+        ids[row] = id;
+        indexId(row);
+        names[row] = employee.getName();
+        salaries[row] = employee.getSalary();
+        departmentCodes[row] = departments.internId(employee.getDepartment());
+        for (String skill : employee.getSkills()) {
+            setSkill(row, skill);
+        }
+        return row;
+    }
+
+    public int size() { return size; }
+
+    // Returns a flyweight view over the given row
+    public Employee get(int row) {
+        checkRow(row);
+        return view(row);
+    }
+
+    public Employee find(String id) {
+        int row = rowOf(id);
+        return row < 0 ? null : view(row);
+    }
+
+    public int rowOf(String id) {
+        int mask = idTable.length - 1;
+        for (int slot = slotOf(id, mask); ; slot = (slot + 1) & mask) {
+            int row = idTable[slot];
+            if (row < 0 || Objects.equals(ids[row], id)) {
+                return row;
+            }
+        }
+    }
+
+    public double salary(int row) {
+        checkRow(row);
+        return salaries[row];
+    }
+
+    public Department department(int row) {
+        checkRow(row);
+        return departmentAt(departmentCodes[row]);
+    }
+
+    // -1 for a null department, -2 if the department is not known to this store
+    public int departmentCode(Department department) {
+        if (department == null) {
+            return -1;
+        }
+        int code = departments.idOf(department);
+        return code < 0 ? -2 : code;
+    }
+
+    public DepartmentRegistry departments() { return departments; }
+
+    public double totalSalary() {
+        double total = 0;
+        for (int i = 0; i < size; i++) {
+            total += salaries[i];
+        }
+        return total;
+    }
+
+    public double totalSalary(Department department) {
+        int code = departmentCode(department);
+        double total = 0;
+        if (code == -2) {
+            return total;
+        }
+        for (int i = 0; i < size; i++) {
+            if (departmentCodes[i] == code) {
+                total += salaries[i];
+            }
+        }
+        return total;
+    }
+
+    public int[] rowsInDepartment(Department department) {
+        int code = departmentCode(department);
+        if (code == -2) {
+            return new int[0];
+        }
+        int[] rows = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (departmentCodes[i] == code) {
+                rows[count++] = i;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    // Rows with min <= salary <= max
+    public int[] rowsWithSalaryBetween(double min, double max) {
+        int[] rows = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            double salary = salaries[i];
+            if (salary >= min && salary <= max) {
+                rows[count++] = i;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    public boolean hasSkill(int row, String skill) {
+        checkRow(row);
+        Integer ordinal = skillToOrdinal.get(skill);
+        if (ordinal == null) {
+            return false;
+        }
+        return (skillBits[row * skillStride + (ordinal >>> 6)] & (1L << ordinal)) != 0;
+    }
+
+    // Skills in dictionary order; the columnar layout keeps each skill at most once per row
+    public List<String> skills(int row) {
+        checkRow(row);
+        List<String> result = new ArrayList<>();
+        int base = row * skillStride;
+        for (int w = 0; w < skillStride; w++) {
+            long word = skillBits[base + w];
+            while (word != 0) {
+                int bit = Long.numberOfTrailingZeros(word);
+                result.add(skills.get((w << 6) + bit));
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    private void setSkill(int row, String skill) {
+        Integer ordinal = skillToOrdinal.get(skill);
+        if (ordinal == null) {
+            ordinal = skills.size();
+            skills.add(skill);
+            skillToOrdinal.put(skill, ordinal);
+            if (ordinal >= skillStride * 64) {
+                restride(skillStride * 2);
+            }
+        }
+        skillBits[row * skillStride + (ordinal >>> 6)] |= 1L << ordinal;
+    }
+
+    private void restride(int newStride) {
+        long[] bits = new long[ids.length * newStride];
+        for (int i = 0; i < size; i++) {
+            System.arraycopy(skillBits, i * skillStride, bits, i * newStride, skillStride);
+        }
+        skillBits = bits;
+        skillStride = newStride;
+    }
+
+    private static int slotOf(String id, int mask) {
+        int h = Objects.hashCode(id) * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    // Adds the row under ids[row]; the id must not be indexed yet
+    private void indexId(int row) {
+        if (size * 2 > idTable.length) {
+            idTable = new int[idTable.length * 2];
+            Arrays.fill(idTable, -1);
+            for (int i = 0; i < size; i++) {
+                if (i != row) {
+                    placeId(i);
+                }
+            }
+        }
+        placeId(row);
+    }
+
+    private void placeId(int row) {
+        int mask = idTable.length - 1;
+        int slot = slotOf(ids[row], mask);
+        while (idTable[slot] >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        idTable[slot] = row;
+    }
+
+    // Removes the row indexed under ids[row], shifting later entries of its probe
+    // run back so lookups never stop at the hole
+    private void unindexId(int row) {
+        int mask = idTable.length - 1;
+        int hole = slotOf(ids[row], mask);
+        while (idTable[hole] != row) {
+            hole = (hole + 1) & mask;
+        }
+        for (int next = (hole + 1) & mask; idTable[next] >= 0; next = (next + 1) & mask) {
+            int home = slotOf(ids[idTable[next]], mask);
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                idTable[hole] = idTable[next];
+                hole = next;
+            }
+        }
+        idTable[hole] = -1;
+    }
+
+    private Employee view(int row) {
+        Row view = observedAt(row);
+        return view != null ? view : new Row(row);
+    }
+
+    private Row observedAt(int row) {
+        return observed == null ? null : observed[row];
+    }
+
+    private Department departmentAt(int code) {
+        return code < 0 ? null : departments.get(code);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, newCapacity);
+        names = Arrays.copyOf(names, newCapacity);
+        salaries = Arrays.copyOf(salaries, newCapacity);
+        departmentCodes = Arrays.copyOf(departmentCodes, newCapacity);
+        skillBits = Arrays.copyOf(skillBits, newCapacity * skillStride);
+        if (observed != null) {
+            observed = Arrays.copyOf(observed, newCapacity);
+        }
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for size " + size);
+        }
+    }
+
+    // Flyweight view: holds only the row index and delegates every field to the columns
+    private final class Row extends Employee {
+        private final int row;
+
+        private Row(int row) {
+            this.row = row;
+        }
+
+        @Override
+        public String getId() { return ids[row]; }
+
+        @Override
+        public void setId(String id) {
+            String oldId = ids[row];
+            if (Objects.equals(id, oldId)) {
+                return;
+            }
+            if (rowOf(id) >= 0) {
+                throw new IllegalArgumentException("Duplicate employee id: " + id);
+            }
+            unindexId(row);
+            ids[row] = id;
+            placeId(row);
+            resetHash();
+            Row view = observedAt(row);
+            if (view != null) {
+                view.resetHash();
+                view.fireIdChanged(oldId);
+            }
+        }
+
+        @Override
+        public String getName() { return names[row]; }
+
+        @Override
+        public void setName(String name) {
+            String oldName = names[row];
+            names[row] = name;
+            Row view = observedAt(row);
+            if (view != null) {
+                view.fireNameChanged(oldName);
+            }
+        }
+
+        @Override
+        public double getSalary() { return salaries[row]; }
+
+        @Override
+        public void setSalary(double salary) {
+            double oldSalary = salaries[row];
+            salaries[row] = salary;
+            Row view = observedAt(row);
+            if (view != null) {
+                view.fireSalaryChanged(oldSalary);
+            }
+        }
+
+        @Override
+        public Department getDepartment() { return departmentAt(departmentCodes[row]); }
+
+        @Override
+        public void setDepartment(Department department) {
+            Department oldDepartment = getDepartment();
+            departmentCodes[row] = departments.internId(department);
+            Row view = observedAt(row);
+            if (view != null) {
+                view.fireDepartmentChanged(oldDepartment);
+            }
+        }
+
+        @Override
+        public List<String> getSkills() { return Collections.unmodifiableList(skills(row)); }
+
+        @Override
+        public void addSkill(String skill) {
+            setSkill(row, skill);
+            Row view = observedAt(row);
+            if (view != null) {
+                view.fireSkillAdded(skill);
+            }
+        }
+
+        // Subscribes on the row's observed view, making this one observed if none is yet
+        @Override
+        public void addListener(EmployeeListener listener) {
+            if (observed == null) {
+                observed = new Row[ids.length];
+            }
+            Row view = observed[row];
+            if (view == null) {
+                view = this;
+                observed[row] = view;
+            }
+            view.subscribe(listener);
+        }
+
+        @Override
+        public void removeListener(EmployeeListener listener) {
+            Row view = observedAt(row);
+            if (view != null) {
+                view.unsubscribe(listener);
+                if (!view.hasListeners()) {
+                    observed[row] = null;
+                }
+            }
+        }
+
+        private void subscribe(EmployeeListener listener) { super.addListener(listener); }
+
+        private void unsubscribe(EmployeeListener listener) { super.removeListener(listener); }
+
+        // Copies are detached from the store
+        @Override
+        Employee copyWith(Department department) {
+            Employee copy = new Employee(getId(), getName(), getSalary(), department);
+            for (String skill : skills(row)) {
+                copy.addSkill(skill);
+            }
+            return copy;
+        }
+    }
+}
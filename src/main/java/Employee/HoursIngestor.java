@@ -0,0 +1,180 @@
+package Employee;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Batched timesheet ingestion for {@link Contractor}s. Each recording thread sums
+ * hours per contractor in its own buffer and hands them over with one
+ * {@link Contractor#logHours} call per contractor once the buffer has seen
+ * {@code batchSize} events, so a contractor's counter and listeners are touched
+ * once per batch rather than once per event. With a flush interval, a background
+ * thread also flushes every buffer periodically so quiet threads do not hold
+ * hours back; {@link #close()} flushes whatever is left.
+ *
+ * Hours recorded but not yet flushed are not visible on the contractor. Once
+ * closed, the ingestor rejects further hours instead of buffering them. Buffers
+ * of threads that have died are dropped after their last flush.
+ */
+public class HoursIngestor implements AutoCloseable {
+    private final int batchSize;
+    private final ThreadLocal<Buffer> buffers = ThreadLocal.withInitial(this::register);
+    private final Set<Buffer> allBuffers = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService flusher;
+    private final LongAdder flushes = new LongAdder();
+    // Events recorded in buffers already dropped
+    private final LongAdder retiredEvents = new LongAdder();
+    private volatile boolean closed;
+
+    // Flushes only when a thread's buffer fills up or on flush()/close()
+    public HoursIngestor(int batchSize) {
+        this(batchSize, null);
+    }
+
+    private HoursIngestor(int batchSize, ScheduledExecutorService flusher) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.batchSize = batchSize;
+        this.flusher = flusher;
+    }
+
+    // Also flushes every buffer in the background every flushInterval. The flush is
+    // scheduled only once the ingestor is fully constructed.
+    public static HoursIngestor withFlushInterval(int batchSize, long flushInterval, TimeUnit unit) {
+        if (flushInterval <= 0) {
+            return new HoursIngestor(batchSize);
+        }
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hours-ingestor-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // The executor starts no thread until the first task, so a rejected batch size leaks nothing
+        HoursIngestor ingestor = new HoursIngestor(batchSize, flusher);
+        flusher.scheduleWithFixedDelay(ingestor::flush, flushInterval, flushInterval, unit);
+        return ingestor;
+    }
+
+    public void record(Contractor contractor, int hours) {
+        Buffer buffer = buffers.get();
+        // Uncontended except while the background flusher drains this buffer
+        synchronized (buffer) {
+            // Checked under the buffer lock, so close() either drains these hours or we throw
+            if (closed) {
+                throw new IllegalStateException("Ingestor is closed");
+            }
+            buffer.add(contractor, hours);
+            if (buffer.events == batchSize) {
+                drain(buffer);
+            }
+        }
+    }
+
+    // Flushes every thread's buffered hours
+    public void flush() {
+        for (Buffer buffer : allBuffers) {
+            synchronized (buffer) {
+                drain(buffer);
+                if (!buffer.isOwnerAlive() && allBuffers.remove(buffer)) {
+                    retiredEvents.add(buffer.recorded);
+                }
+            }
+        }
+    }
+
+    public long getEventCount() {
+        long total = retiredEvents.sum();
+        for (Buffer buffer : allBuffers) {
+            synchronized (buffer) {
+                total += buffer.recorded;
+            }
+        }
+        return total;
+    }
+
+    // Number of non-empty buffer hand-overs so far
+    public long getFlushCount() { return flushes.sum(); }
+
+    // Buffers still held: one per live recording thread, plus dead ones not yet flushed
+    int bufferCount() { return allBuffers.size(); }
+
+    @Override
+    public void close() {
+        closed = true;
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        flush();
+    }
+
+    private Buffer register() {
+        Buffer buffer = new Buffer(batchSize, Thread.currentThread());
+        allBuffers.add(buffer);
+        return buffer;
+    }
+
+    private void drain(Buffer buffer) {
+        if (buffer.events > 0) {
+            buffer.drain();
+            flushes.increment();
+        }
+    }
+
+    // Per-thread pending hours: an identity-keyed open-addressing table sized so a
+    // full batch never needs to grow it, plus the used slots in first-seen order.
+    // The owner is held weakly so the buffer does not keep a dead thread reachable.
+    private static final class Buffer {
+        private final WeakReference<Thread> owner;
+        private final Contractor[] contractors;
+        private final long[] hours;
+        private final int[] used;
+        private int size;
+        private int events;
+        private long recorded;
+
+        Buffer(int batchSize, Thread owner) {
+            this.owner = new WeakReference<>(owner);
+            int capacity = Integer.highestOneBit(Math.max(2 * batchSize - 1, 1)) << 1;
+            contractors = new Contractor[capacity];
+            hours = new long[capacity];
+            used = new int[batchSize];
+        }
+
+        boolean isOwnerAlive() {
+            Thread thread = owner.get();
+            return thread != null && thread.isAlive();
+        }
+
+        void add(Contractor contractor, int hours) {
+            int mask = contractors.length - 1;
+            int slot = (System.identityHashCode(contractor) * 0x9E3779B9) >>> 7 & mask;
+            while (contractors[slot] != contractor) {
+                if (contractors[slot] == null) {
+                    contractors[slot] = contractor;
+                    used[size++] = slot;
+                    break;
+                }
+                slot = (slot + 1) & mask;
+            }
+            this.hours[slot] += hours;
+            events++;
+            recorded++;
+        }
+
+        void drain() {
+            for (int i = 0; i < size; i++) {
+                int slot = used[i];
+                contractors[slot].addHours(hours[slot]);
+                contractors[slot] = null;
+                hours[slot] = 0;
+            }
+            size = 0;
+            events = 0;
+        }
+    }
+}
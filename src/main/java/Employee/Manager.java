@@ -0,0 +1,86 @@
+package Employee;
+import java.io.IOException;
+import java.util.*;
+
+import Department.Department;
+
+/**
+ * Employee with a bonus and a team. Reporting lines are kept in an {@link OrgChart}
+ * shared by everyone in the hierarchy, created on the first
+ * {@link #addDirectReport(Employee)}; adding a manager who already has a team moves
+ * the whole team into this manager's chart. Clones start outside any chart.
+ */
+public class Manager extends Employee {
+    private final double bonusPercentage;
+    // Set and cleared by OrgChart
+    OrgChart chart;
+
+    public Manager(String id, String name, double salary, Department department, double bonusPercentage) {
+        super(id, name, salary, department);
+        this.bonusPercentage = bonusPercentage;
+    }
+
+    public double getBonusPercentage() { return bonusPercentage; }
+
+    public double getTotalCompensation() { return getSalary() * (1 + bonusPercentage); }
+
+    // Null until the manager joins a chart
+    public OrgChart getOrgChart() { return chart; }
+
+    public void addDirectReport(Employee employee) {
+        if (chart == null) {
+            new OrgChart().add(this, null);
+        }
+        chart.add(employee, this);
+    }
+
+    public List<Employee> getDirectReports() {
+        return chart == null ? List.of() : chart.directReports(this);
+    }
+
+    // Everyone under this manager, directly or transitively, as a read-only view
+    public List<Employee> getAllReports() {
+        return chart == null ? List.of() : chart.allReports(this);
+    }
+
+    public int getReportCount() {
+        return chart == null ? 0 : chart.reportCount(this);
+    }
+
+    // Salary of this manager plus everyone under them
+    public double getTeamSalary() {
+        return chart == null ? getSalary() : chart.teamSalary(this);
+    }
+
+    @Override
+    public <A extends Appendable> A appendTo(A out) throws IOException {
+        out.append("Manager{id='").append(getId()).append("', name='").append(getName()).append("', salary=");
+        appendDouble(out, getSalary());
+        out.append(", totalComp=");
+        appendDouble(out, getTotalCompensation());
+        out.append(", reports=");
+        appendInt(out, chart == null ? 0 : chart.directReportCount(this));
+        out.append('}');
+        return out;
+    }
+
+    @Override
+    public Manager clone() throws CloneNotSupportedException {
+        Manager cloned = (Manager) super.clone();
+        cloned.chart = null;
+        return cloned;
+    }
+
+    // Reports are not cloned with their manager
+    @Override
+    public Manager deepClone() {
+        return (Manager) super.deepClone();
+    }
+
+    @Override
+    Manager copyWith(Department department) {
+        Manager cloned = (Manager) super.copyWith(department);
+        cloned.chart = null;
+        return cloned;
+    }
+}
@@ -0,0 +1,327 @@
+package Employee;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import Department.Department;
+import Department.DepartmentListener;
+
+/**
+ * Append-only change log of field-level mutations on tracked employees and
+ * departments, kept in a preallocated ring buffer in the style of the LMAX
+ * Disruptor. Every setter on a tracked object writes one {@link Event} with the
+ * next sequence number; nothing is allocated per event.
+ *
+ * <pre>
+ * writers (threads mutating tracked objects) claim the next sequence with a CAS,
+ *         fill that slot in place, then flag it with its lap number; whichever
+ *         writer sees the slot after the published sequence flagged advances it
+ * readers each own a {@link Cursor} with its own sequence and consume every
+ *         published event past it in one batch
+ * </pre>
+ *
+ * Open cursors gate the writers: they wait rather than overwrite an event some
+ * cursor has not consumed, so a cursor that is never polled eventually stalls
+ * them. Without cursors the ring simply keeps the latest events, which
+ * {@link #replay} can feed to a listener to rebuild a derived index.
+ *
+ * Any number of threads may mutate tracked objects at once (a contractor's
+ * hours are logged from many); events are published in sequence order, so
+ * readers never see a gap. Cursors may be polled from any threads, one thread
+ * per cursor.
+ */
+public class MutationJournal {
+    public enum Kind { ID, NAME, SALARY, DEPARTMENT, SKILL_ADDED, DEPARTMENT_NAME, DEPARTMENT_LOCATION }
+
+    public interface BatchListener {
+        // The event is a reused slot, valid only for the duration of the call
+        void onEvent(Event event, boolean endOfBatch);
+    }
+
+    /**
+     * One field change. Employee events carry the employee; department events
+     * carry the department and a null employee. Salary changes use the double
+     * accessors, every other kind the value accessors (a String, or for
+     * {@link Kind#DEPARTMENT} a Department; {@link Kind#SKILL_ADDED} has only a new value).
+     */
+    public static final class Event {
+        private long sequence = -1;
+        private Kind kind;
+        private Employee employee;
+        private Department department;
+        private Object oldValue;
+        private Object newValue;
+        private double oldSalary;
+        private double newSalary;
+
+        public long getSequence() { return sequence; }
+        public Kind getKind() { return kind; }
+        public Employee getEmployee() { return employee; }
+        public Department getDepartment() { return department; }
+        public Object getOldValue() { return oldValue; }
+        public Object getNewValue() { return newValue; }
+        public double getOldSalary() { return oldSalary; }
+        public double getNewSalary() { return newSalary; }
+
+        @Override
+        public String toString() {
+            return "Event{sequence=" + sequence + ", kind=" + kind
+                    + ", target='" + (employee != null ? employee.getId() : department) + "'"
+                    + (kind == Kind.SALARY
+                        ? ", old=" + oldSalary + ", new=" + newSalary
+                        : ", old=" + oldValue + ", new=" + newValue)
+                    + "}";
+        }
+    }
+
+    public final class Cursor implements AutoCloseable {
+        // Last consumed sequence
+        private volatile long sequence;
+
+        private Cursor(long sequence) {
+            this.sequence = sequence;
+        }
+
+        public long getSequence() { return sequence; }
+
+        // Hands every event published since the last poll to the listener, the last
+        // one flagged as the end of the batch. If the listener throws, the failing
+        // event is delivered again on the next poll.
+        public int poll(BatchListener listener) {
+            long from = sequence + 1;
+            long to = published.get();
+            long done = from - 1;
+            try {
+                for (long s = from; s <= to; s++) {
+                    listener.onEvent(ring[(int) s & mask], s == to);
+                    done = s;
+                }
+            } finally {
+                sequence = done;
+            }
+            return (int) (done - from + 1);
+        }
+
+        // Stops gating the writers
+        @Override
+        public void close() {
+            removeCursor(this);
+        }
+    }
+
+    private static final int SPINS = 100;
+
+    private final Event[] ring;
+    private final int mask;
+    private final int shift;
+    // Lap (sequence >>> shift) of the last event written to each slot, -1 if none
+    private final AtomicIntegerArray laps;
+    private final Recorder recorder = new Recorder();
+    // Last published sequence, -1 before the first event; everything up to it is readable
+    private final AtomicLong published = new AtomicLong(-1);
+    // Last sequence handed to a writer
+    private final AtomicLong claimed = new AtomicLong(-1);
+    private volatile Cursor[] cursors = new Cursor[0];
+    // Lowest cursor sequence seen at the last check; only ever stale low
+    private volatile long gate = -1;
+
+    // Capacity is rounded up to a power of two
+    public MutationJournal(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        ring = new Event[size];
+        for (int i = 0; i < size; i++) {
+            ring[i] = new Event();
+        }
+        mask = size - 1;
+        shift = Integer.numberOfTrailingZeros(size);
+        laps = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            laps.set(i, -1);
+        }
+    }
+
+    public int capacity() { return ring.length; }
+
+    public long publishedSequence() { return published.get(); }
+
+    // Oldest sequence still held by the ring
+    public long firstAvailableSequence() {
+        return Math.max(0, published.get() - ring.length + 1);
+    }
+
+    // Records every later change made through the employee's setters
+    public void track(Employee employee) {
+        employee.addListener(recorder);
+    }
+
+    public void untrack(Employee employee) {
+        employee.removeListener(recorder);
+    }
+
+    public void track(Department department) {
+        department.addListener(recorder);
+    }
+
+    public void untrack(Department department) {
+        department.removeListener(recorder);
+    }
+
+    // A reader that sees events published after this call
+    public synchronized Cursor cursor() {
+        Cursor cursor = new Cursor(published.get());
+        Cursor[] current = cursors;
+        Cursor[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = cursor;
+        cursors = updated;
+        return cursor;
+    }
+
+    private synchronized void removeCursor(Cursor cursor) {
+        Cursor[] current = cursors;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == cursor) {
+                Cursor[] updated = new Cursor[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, updated.length - i);
+                cursors = updated;
+                return;
+            }
+        }
+    }
+
+    // Feeds events from the given sequence up to the latest to the listener, as one
+    // batch. Replay does not gate the writers: call it while tracked objects are
+    // not being changed.
+    public int replay(long fromSequence, BatchListener listener) {
+        long to = published.get();
+        if (fromSequence < firstAvailableSequence()) {
+            throw new IllegalArgumentException("Sequence " + fromSequence
+                    + " has been overwritten; oldest available is " + firstAvailableSequence());
+        }
+        for (long s = fromSequence; s <= to; s++) {
+            listener.onEvent(ring[(int) s & mask], s == to);
+        }
+        return (int) Math.max(0, to - fromSequence + 1);
+    }
+
+    // Writer side: waits for the slowest cursor if the ring is full. A slot is
+    // reused only once its previous event is published, so writers never overtake
+    // one another by a whole lap either.
+    private Event claim() {
+        int spins = 0;
+        while (true) {
+            long current = claimed.get();
+            long next = current + 1;
+            long wrapPoint = next - ring.length;
+            if (wrapPoint > gate) {
+                long minimum = minimumCursor(published.get());
+                gate = minimum;
+                if (wrapPoint > minimum) {
+                    if (++spins < SPINS) {
+                        Thread.onSpinWait();
+                    } else {
+                        LockSupport.parkNanos(1000);
+                    }
+                    continue;
+                }
+            }
+            if (claimed.compareAndSet(current, next)) {
+                Event event = ring[(int) next & mask];
+                event.sequence = next;
+                return event;
+            }
+        }
+    }
+
+    // Flags the slot, then moves the published sequence over every flagged slot
+    // after it, so events become visible in order whichever writer finishes first
+    private void publish(Event event) {
+        long sequence = event.sequence;
+        laps.set((int) sequence & mask, (int) (sequence >>> shift));
+        long current = published.get();
+        // Stops at the first unflagged slot; its writer has yet to flag it and will carry on from there
+        while (isFlagged(current + 1)) {
+            if (published.compareAndSet(current, current + 1)) {
+                current++;
+            } else {
+                current = published.get();
+            }
+        }
+    }
+
+    private boolean isFlagged(long sequence) {
+        return laps.get((int) sequence & mask) == (int) (sequence >>> shift);
+    }
+
+    private long minimumCursor(long fallback) {
+        long minimum = fallback;
+        for (Cursor cursor : cursors) {
+            minimum = Math.min(minimum, cursor.sequence);
+        }
+        return minimum;
+    }
+
+    private void record(Kind kind, Employee employee, Department department, Object oldValue, Object newValue) {
+        Event event = claim();
+        event.kind = kind;
+        event.employee = employee;
+        event.department = department;
+        event.oldValue = oldValue;
+        event.newValue = newValue;
+        event.oldSalary = 0;
+        event.newSalary = 0;
+        publish(event);
+    }
+
+    private final class Recorder implements EmployeeListener, DepartmentListener {
+        @Override
+        public void idChanged(Employee employee, String oldId) {
+            record(Kind.ID, employee, null, oldId, employee.getId());
+        }
+
+        @Override
+        public void nameChanged(Employee employee, String oldName) {
+            record(Kind.NAME, employee, null, oldName, employee.getName());
+        }
+
+        @Override
+        public void salaryChanged(Employee employee, double oldSalary) {
+            Event event = claim();
+            event.kind = Kind.SALARY;
+            event.employee = employee;
+            event.department = null;
+            event.oldValue = null;
+            event.newValue = null;
+            event.oldSalary = oldSalary;
+            event.newSalary = employee.getSalary();
+            publish(event);
+        }
+
+        @Override
+        public void departmentChanged(Employee employee, Department oldDepartment) {
+            record(Kind.DEPARTMENT, employee, null, oldDepartment, employee.getDepartment());
+        }
+
+        @Override
+        public void skillAdded(Employee employee, String skill) {
+            record(Kind.SKILL_ADDED, employee, null, null, skill);
+        }
+
+        @Override
+        public void nameChanged(Department department, String oldName) {
+            record(Kind.DEPARTMENT_NAME, null, department, oldName, department.getName());
+        }
+
+        @Override
+        public void locationChanged(Department department, String oldLocation) {
+            record(Kind.DEPARTMENT_LOCATION, null, department, oldLocation, department.getLocation());
+        }
+    }
+}
@@ -0,0 +1,259 @@
+package Employee;
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * Name lookup for search-as-you-type. Names are normalized (Unicode NFKC, then
+ * case-folded) and kept in a sorted array of (key, ordinal) pairs, so a prefix
+ * or a case-insensitive name is a binary search plus a walk over the matches.
+ * Exact lookups go through the same keys and then compare the original names.
+ * Any character is allowed, including line breaks, tabs, quotes and backslashes.
+ *
+ * Renames made through {@link Employee#setName(String)} are followed with an
+ * {@link EmployeeListener}. A renamed employee's new key goes to a small
+ * unsorted list that queries scan, and its old entry goes stale (each entry
+ * records the version of the name it was made for). The list is merged into
+ * the sorted array once it grows past an eighth of it. Not thread-safe.
+ */
+public class NameIndex {
+    private static final int MIN_PENDING = 64;
+    private static final int INSERTION_SORT = 32;
+
+    private final List<Employee> employees = new ArrayList<>();
+    // Per ordinal: current key (null for a null name) and name version
+    private String[] keys = new String[16];
+    private int[] versions = new int[16];
+    private final OrdinalBitmap nullNames = new OrdinalBitmap();
+
+    // Sorted by key, then ordinal
+    private String[] sortedKeys = new String[0];
+    private int[] sortedOrdinals = new int[0];
+    private int[] sortedVersions = new int[0];
+    private int sortedSize;
+
+    // Ordinals renamed or added since the last merge, with the version at the time
+    private int[] pendingOrdinals = new int[MIN_PENDING];
+    private int[] pendingVersions = new int[MIN_PENDING];
+    private int pendingSize;
+
+    // Indexes the employee's current name and returns its ordinal
+    public int add(Employee employee) {
+        int ordinal = employees.size();
+        employees.add(employee);
+        if (ordinal == keys.length) {
+            keys = Arrays.copyOf(keys, ordinal * 2);
+            versions = Arrays.copyOf(versions, ordinal * 2);
+        }
+        index(ordinal, employee.getName());
+        employee.addListener(new Binding(ordinal));
+        return ordinal;
+    }
+
+    public int size() { return employees.size(); }
+
+    public Employee employee(int ordinal) { return employees.get(ordinal); }
+
+    public List<Employee> employees(OrdinalBitmap ordinals) {
+        List<Employee> result = new ArrayList<>(ordinals.cardinality());
+        ordinals.forEach(ordinal -> result.add(employees.get(ordinal)));
+        return result;
+    }
+
+    // Case- and accent-form-insensitive prefix match; the empty prefix matches every non-null name
+    public OrdinalBitmap withPrefix(String prefix) {
+        if (prefix == null) {
+            throw new IllegalArgumentException("Prefix must not be null; use named(null) for employees without a name");
+        }
+        String key = normalize(prefix);
+        OrdinalBitmap result = new OrdinalBitmap();
+        for (int i = lowerBound(key); i < sortedSize && sortedKeys[i].startsWith(key); i++) {
+            if (isCurrent(sortedOrdinals[i], sortedVersions[i])) {
+                result.add(sortedOrdinals[i]);
+            }
+        }
+        for (int i = 0; i < pendingSize; i++) {
+            int ordinal = pendingOrdinals[i];
+            if (isCurrent(ordinal, pendingVersions[i]) && keys[ordinal].startsWith(key)) {
+                result.add(ordinal);
+            }
+        }
+        return result;
+    }
+
+    public OrdinalBitmap namedIgnoreCase(String name) {
+        if (name == null) {
+            return nullNames.copy();
+        }
+        String key = normalize(name);
+        OrdinalBitmap result = new OrdinalBitmap();
+        for (int i = lowerBound(key); i < sortedSize && sortedKeys[i].equals(key); i++) {
+            if (isCurrent(sortedOrdinals[i], sortedVersions[i])) {
+                result.add(sortedOrdinals[i]);
+            }
+        }
+        for (int i = 0; i < pendingSize; i++) {
+            int ordinal = pendingOrdinals[i];
+            if (isCurrent(ordinal, pendingVersions[i]) && keys[ordinal].equals(key)) {
+                result.add(ordinal);
+            }
+        }
+        return result;
+    }
+
+    // Employees whose name equals this one exactly (null matches null names)
+    public OrdinalBitmap named(String name) {
+        OrdinalBitmap candidates = namedIgnoreCase(name);
+        if (name == null) {
+            return candidates;
+        }
+        OrdinalBitmap result = new OrdinalBitmap();
+        candidates.forEach(ordinal -> {
+            if (name.equals(employees.get(ordinal).getName())) {
+                result.add(ordinal);
+            }
+        });
+        return result;
+    }
+
+    // Search key for a name: compatibility-normalized, then case-folded through
+    // upper case so that e.g. "STRASSE" and "straße" share a key
+    static String normalize(String name) {
+        String composed = Normalizer.normalize(name, Normalizer.Form.NFKC);
+        return composed.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
+    }
+
+    private boolean isCurrent(int ordinal, int version) {
+        return versions[ordinal] == version && keys[ordinal] != null;
+    }
+
+    private void index(int ordinal, String name) {
+        int version = ++versions[ordinal];
+        if (name == null) {
+            keys[ordinal] = null;
+            nullNames.add(ordinal);
+            return;
+        }
+        keys[ordinal] = normalize(name);
+        nullNames.remove(ordinal);
+        if (pendingSize == pendingOrdinals.length) {
+            pendingOrdinals = Arrays.copyOf(pendingOrdinals, pendingSize * 2);
+            pendingVersions = Arrays.copyOf(pendingVersions, pendingSize * 2);
+        }
+        pendingOrdinals[pendingSize] = ordinal;
+        pendingVersions[pendingSize] = version;
+        pendingSize++;
+        if (pendingSize > Math.max(MIN_PENDING, sortedSize / 8)) {
+            merge();
+        }
+    }
+
+    // First sorted position whose key is not less than the given key
+    private int lowerBound(String key) {
+        int from = 0;
+        int to = sortedSize;
+        while (from < to) {
+            int mid = (from + to) >>> 1;
+            if (sortedKeys[mid].compareTo(key) < 0) {
+                from = mid + 1;
+            } else {
+                to = mid;
+            }
+        }
+        return from;
+    }
+
+    // Sorts the current pending entries and merges them with the live sorted ones,
+    // dropping stale entries on both sides
+    private void merge() {
+        int[] pending = new int[pendingSize];
+        int live = 0;
+        for (int i = 0; i < pendingSize; i++) {
+            if (isCurrent(pendingOrdinals[i], pendingVersions[i])) {
+                pending[live++] = pendingOrdinals[i];
+            }
+        }
+        sortByKey(pending, new int[live], 0, live);
+        int capacity = sortedSize + live;
+        String[] mergedKeys = new String[capacity];
+        int[] mergedOrdinals = new int[capacity];
+        int[] mergedVersions = new int[capacity];
+        int n = 0;
+        int i = 0;
+        int j = 0;
+        while (i < sortedSize || j < live) {
+            if (i < sortedSize && !isCurrent(sortedOrdinals[i], sortedVersions[i])) {
+                i++;
+                continue;
+            }
+            boolean takeSorted = j == live || (i < sortedSize && compare(sortedKeys[i], sortedOrdinals[i],
+                    keys[pending[j]], pending[j]) <= 0);
+            if (takeSorted) {
+                mergedKeys[n] = sortedKeys[i];
+                mergedOrdinals[n] = sortedOrdinals[i];
+                mergedVersions[n] = sortedVersions[i];
+                i++;
+            } else {
+                int ordinal = pending[j++];
+                mergedKeys[n] = keys[ordinal];
+                mergedOrdinals[n] = ordinal;
+                mergedVersions[n] = versions[ordinal];
+            }
+            n++;
+        }
+        sortedKeys = mergedKeys;
+        sortedOrdinals = mergedOrdinals;
+        sortedVersions = mergedVersions;
+        sortedSize = n;
+        pendingSize = 0;
+    }
+
+    // Merge sort of ordinals a[from, to) by (key, ordinal), using b as scratch
+    private void sortByKey(int[] a, int[] b, int from, int to) {
+        if (to - from <= INSERTION_SORT) {
+            for (int i = from + 1; i < to; i++) {
+                int ordinal = a[i];
+                int j = i - 1;
+                while (j >= from && compare(keys[a[j]], a[j], keys[ordinal], ordinal) > 0) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = ordinal;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sortByKey(a, b, from, mid);
+        sortByKey(a, b, mid, to);
+        if (compare(keys[a[mid - 1]], a[mid - 1], keys[a[mid]], a[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(a, from, b, from, to - from);
+        int i = from;
+        int j = mid;
+        for (int k = from; k < to; k++) {
+            if (j == to || (i < mid && compare(keys[b[i]], b[i], keys[b[j]], b[j]) <= 0)) {
+                a[k] = b[i++];
+            } else {
+                a[k] = b[j++];
+            }
+        }
+    }
+
+    private static int compare(String key1, int ordinal1, String key2, int ordinal2) {
+        int cmp = key1.compareTo(key2);
+        return cmp != 0 ? cmp : Integer.compare(ordinal1, ordinal2);
+    }
+
+    private final class Binding implements EmployeeListener {
+        private final int ordinal;
+
+        private Binding(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public void nameChanged(Employee employee, String oldName) {
+            index(ordinal, employee.getName());
+        }
+    }
+}
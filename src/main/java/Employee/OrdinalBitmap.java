@@ -0,0 +1,432 @@
+package Employee;
+import java.util.*;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of non-negative int ordinals in the style of a Roaring bitmap.
+ * Ordinals are split into 2^16-wide chunks keyed by their high 16 bits; each chunk
+ * is stored as a sorted char array while sparse and as a 1024-word bitset once it
+ * holds more than 4096 values. {@link #and}, {@link #or} and {@link #andNot} return
+ * new bitmaps and leave their inputs untouched.
+ */
+public class OrdinalBitmap {
+    private static final int ARRAY_LIMIT = 4096;
+    private static final int BITMAP_WORDS = 1024;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public boolean add(int ordinal) {
+        checkOrdinal(ordinal);
+        char high = (char) (ordinal >>> 16);
+        int i = find(high);
+        if (i < 0) {
+            insert(-i - 1, high, new ArrayContainer().add((char) ordinal));
+            return true;
+        }
+        int before = containers[i].cardinality();
+        containers[i] = containers[i].add((char) ordinal);
+        return containers[i].cardinality() != before;
+    }
+
+    public boolean remove(int ordinal) {
+        checkOrdinal(ordinal);
+        int i = find((char) (ordinal >>> 16));
+        if (i < 0) {
+            return false;
+        }
+        int before = containers[i].cardinality();
+        Container container = containers[i].remove((char) ordinal);
+        if (container.cardinality() == 0) {
+            System.arraycopy(keys, i + 1, keys, i, size - i - 1);
+            System.arraycopy(containers, i + 1, containers, i, size - i - 1);
+            containers[--size] = null;
+            return true;
+        }
+        containers[i] = container;
+        return container.cardinality() != before;
+    }
+
+    public boolean contains(int ordinal) {
+        if (ordinal < 0) {
+            return false;
+        }
+        int i = find((char) (ordinal >>> 16));
+        return i >= 0 && containers[i].contains((char) ordinal);
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() { return size == 0; }
+
+    // Visits ordinals in ascending order
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, action);
+        }
+    }
+
+    public int[] toArray() {
+        int[] result = new int[cardinality()];
+        int[] next = {0};
+        forEach(ordinal -> result[next[0]++] = ordinal);
+        return result;
+    }
+
+    public OrdinalBitmap copy() {
+        OrdinalBitmap copy = new OrdinalBitmap();
+        copy.keys = Arrays.copyOf(keys, Math.max(size, 1));
+        copy.containers = new Container[copy.keys.length];
+        for (int i = 0; i < size; i++) {
+            copy.containers[i] = containers[i].copy();
+        }
+        copy.size = size;
+        return copy;
+    }
+
+    public OrdinalBitmap and(OrdinalBitmap other) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        int i = 0, j = 0;
+        while (i < size && j < other.size) {
+            if (keys[i] < other.keys[j]) {
+                i++;
+            } else if (keys[i] > other.keys[j]) {
+                j++;
+            } else {
+                result.append(keys[i], and(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public OrdinalBitmap or(OrdinalBitmap other) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        int i = 0, j = 0;
+        while (i < size || j < other.size) {
+            if (j == other.size || (i < size && keys[i] < other.keys[j])) {
+                result.append(keys[i], containers[i].copy());
+                i++;
+            } else if (i == size || keys[i] > other.keys[j]) {
+                result.append(other.keys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.append(keys[i], or(containers[i], other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public OrdinalBitmap andNot(OrdinalBitmap other) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        int j = 0;
+        for (int i = 0; i < size; i++) {
+            while (j < other.size && other.keys[j] < keys[i]) {
+                j++;
+            }
+            if (j < other.size && other.keys[j] == keys[i]) {
+                result.append(keys[i], andNot(containers[i], other.containers[j]));
+            } else {
+                result.append(keys[i], containers[i].copy());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof OrdinalBitmap other)) return false;
+        return Arrays.equals(toArray(), other.toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return "OrdinalBitmap" + Arrays.toString(toArray());
+    }
+
+    private int find(char high) {
+        return Arrays.binarySearch(keys, 0, size, high);
+    }
+
+    private void insert(int index, char high, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = high;
+        containers[index] = container;
+        size++;
+    }
+
+    // Appends a chunk with a key greater than all present; empty chunks are dropped
+    private void append(char high, Container container) {
+        if (container.cardinality() > 0) {
+            insert(size, high, container);
+        }
+    }
+
+    private static void checkOrdinal(int ordinal) {
+        if (ordinal < 0) {
+            throw new IllegalArgumentException("Ordinals must be non-negative: " + ordinal);
+        }
+    }
+
+    private static Container and(Container a, Container b) {
+        if (a instanceof ArrayContainer array) {
+            return array.filter(b, true);
+        }
+        if (b instanceof ArrayContainer array) {
+            return array.filter(a, true);
+        }
+        long[] words = ((BitmapContainer) a).words.clone();
+        long[] other = ((BitmapContainer) b).words;
+        for (int k = 0; k < BITMAP_WORDS; k++) {
+            words[k] &= other[k];
+        }
+        return BitmapContainer.of(words);
+    }
+
+    private static Container or(Container a, Container b) {
+        if (a instanceof ArrayContainer x && b instanceof ArrayContainer y
+                && x.cardinality + y.cardinality <= ARRAY_LIMIT) {
+            return x.union(y);
+        }
+        long[] words = a.toWords();
+        long[] other = b instanceof BitmapContainer bitmap ? bitmap.words : b.toWords();
+        for (int k = 0; k < BITMAP_WORDS; k++) {
+            words[k] |= other[k];
+        }
+        return BitmapContainer.of(words);
+    }
+
+    private static Container andNot(Container a, Container b) {
+        if (a instanceof ArrayContainer array) {
+            return array.filter(b, false);
+        }
+        long[] words = ((BitmapContainer) a).words.clone();
+        if (b instanceof ArrayContainer array) {
+            for (int k = 0; k < array.cardinality; k++) {
+                char low = array.values[k];
+                words[low >>> 6] &= ~(1L << low);
+            }
+        } else {
+            long[] other = ((BitmapContainer) b).words;
+            for (int k = 0; k < BITMAP_WORDS; k++) {
+                words[k] &= ~other[k];
+            }
+        }
+        return BitmapContainer.of(words);
+    }
+
+    private abstract static class Container {
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        abstract boolean contains(char low);
+
+        abstract int cardinality();
+
+        abstract void forEach(int base, IntConsumer action);
+
+        // Fresh bitset with this container's values
+        abstract long[] toWords();
+
+        abstract Container copy();
+    }
+
+    private static final class ArrayContainer extends Container {
+        private char[] values = new char[4];
+        private int cardinality;
+
+        @Override
+        Container add(char low) {
+            int i = Arrays.binarySearch(values, 0, cardinality, low);
+            if (i >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_LIMIT) {
+                return new BitmapContainer(toWords(), cardinality).add(low);
+            }
+            i = -i - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(cardinality * 2, ARRAY_LIMIT));
+            }
+            System.arraycopy(values, i, values, i + 1, cardinality - i);
+            values[i] = low;
+            cardinality++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int i = Arrays.binarySearch(values, 0, cardinality, low);
+            if (i >= 0) {
+                System.arraycopy(values, i + 1, values, i, cardinality - i - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, cardinality, low) >= 0;
+        }
+
+        @Override
+        int cardinality() { return cardinality; }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int i = 0; i < cardinality; i++) {
+                action.accept(base | values[i]);
+            }
+        }
+
+        @Override
+        long[] toWords() {
+            long[] words = new long[BITMAP_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                words[values[i] >>> 6] |= 1L << values[i];
+            }
+            return words;
+        }
+
+        @Override
+        Container copy() {
+            ArrayContainer copy = new ArrayContainer();
+            copy.values = Arrays.copyOf(values, Math.max(cardinality, 1));
+            copy.cardinality = cardinality;
+            return copy;
+        }
+
+        // Values that are (keep) or are not (!keep) in the other container
+        ArrayContainer filter(Container other, boolean keep) {
+            ArrayContainer result = new ArrayContainer();
+            result.values = new char[Math.max(cardinality, 1)];
+            for (int i = 0; i < cardinality; i++) {
+                if (other.contains(values[i]) == keep) {
+                    result.values[result.cardinality++] = values[i];
+                }
+            }
+            return result;
+        }
+
+        ArrayContainer union(ArrayContainer other) {
+            ArrayContainer result = new ArrayContainer();
+            result.values = new char[Math.max(cardinality + other.cardinality, 1)];
+            int i = 0, j = 0, n = 0;
+            while (i < cardinality || j < other.cardinality) {
+                char next;
+                if (j == other.cardinality || (i < cardinality && values[i] < other.values[j])) {
+                    next = values[i++];
+                } else if (i == cardinality || values[i] > other.values[j]) {
+                    next = other.values[j++];
+                } else {
+                    next = values[i++];
+                    j++;
+                }
+                result.values[n++] = next;
+            }
+            result.cardinality = n;
+            return result;
+        }
+    }
+
+    private static final class BitmapContainer extends Container {
+        private final long[] words;
+        private int cardinality;
+
+        private BitmapContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        // Wraps the words, falling back to an array container when sparse
+        static Container of(long[] words) {
+            int cardinality = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+            }
+            if (cardinality > ARRAY_LIMIT) {
+                return new BitmapContainer(words, cardinality);
+            }
+            ArrayContainer array = new ArrayContainer();
+            array.values = new char[Math.max(cardinality, 1)];
+            for (int k = 0; k < BITMAP_WORDS; k++) {
+                long word = words[k];
+                while (word != 0) {
+                    array.values[array.cardinality++] = (char) ((k << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            return array;
+        }
+
+        @Override
+        Container add(char low) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) == 0) {
+                words[low >>> 6] |= bit;
+                cardinality++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            long bit = 1L << low;
+            if ((words[low >>> 6] & bit) != 0) {
+                words[low >>> 6] &= ~bit;
+                cardinality--;
+                if (cardinality <= ARRAY_LIMIT) {
+                    return of(words);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        int cardinality() { return cardinality; }
+
+        @Override
+        void forEach(int base, IntConsumer action) {
+            for (int k = 0; k < BITMAP_WORDS; k++) {
+                long word = words[k];
+                while (word != 0) {
+                    action.accept(base | (k << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        @Override
+        long[] toWords() { return words.clone(); }
+
+        @Override
+        Container copy() { return new BitmapContainer(words.clone(), cardinality); }
+    }
+}
@@ -0,0 +1,332 @@
+package Employee;
+import java.util.*;
+
+/**
+ * Reporting hierarchy index. Parent, child and sibling links live in int arrays
+ * indexed by a per-employee ordinal; a pre-order (Euler tour) numbering is
+ * rebuilt lazily after structural changes, so every employee's transitive reports
+ * form one contiguous interval of the tour. That makes "all reports under X",
+ * report counts, depth and "is A under B" O(1), and team salary totals O(log n)
+ * through a Fenwick tree over tour positions that follows
+ * {@link Employee#setSalary(double)}.
+ *
+ * Ordinal 0 is a virtual root above all top-level employees. Not thread-safe.
+ */
+public class OrgChart {
+    private static final int ROOT = 0;
+
+    private Employee[] employees = new Employee[16];
+    private int[] parent = new int[16];
+    private int[] firstChild = new int[16];
+    private int[] lastChild = new int[16];
+    private int[] nextSibling = new int[16];
+    private int[] prevSibling = new int[16];
+    private int[] childCount = new int[16];
+    // Ordinals in use or freed so far; freed ordinals are chained through nextSibling
+    private int count = 1;
+    private int freeHead = -1;
+    private int size;
+    private final Map<Employee, Binding> bindings = new IdentityHashMap<>();
+
+    // Euler tour, rebuilt lazily after structural changes
+    private boolean tourValid;
+    private Employee[] tour;
+    private int[] position = new int[16];
+    private int[] end = new int[16];
+    private int[] depth = new int[16];
+    // Fenwick tree of salaries over tour positions
+    private double[] salaryTree;
+
+    public OrgChart() {
+        firstChild[ROOT] = lastChild[ROOT] = -1;
+        nextSibling[ROOT] = prevSibling[ROOT] = -1;
+        parent[ROOT] = -1;
+    }
+
+    // Adds the employee under the manager (null for top level), or moves it there
+    // with its reports if it is already in the chart. A Manager that heads part of
+    // another chart is moved over together with its reports.
+    public void add(Employee employee, Employee manager) {
+        Objects.requireNonNull(employee, "employee");
+        int managerOrdinal = manager == null ? ROOT : ordinal(manager);
+        Binding existing = bindings.get(employee);
+        if (existing != null) {
+            move(existing.ordinal, managerOrdinal);
+        } else if (employee instanceof Manager head && head.chart != null && head.chart != this) {
+            absorb(head.chart, head, managerOrdinal);
+        } else {
+            insert(employee, managerOrdinal);
+        }
+    }
+
+    // Removes the employee; its direct reports move up to its manager
+    public boolean remove(Employee employee) {
+        Binding binding = bindings.get(employee);
+        if (binding == null) {
+            return false;
+        }
+        int o = binding.ordinal;
+        while (firstChild[o] >= 0) {
+            int child = firstChild[o];
+            unlink(child);
+            link(child, parent[o]);
+        }
+        release(o);
+        return true;
+    }
+
+    public boolean contains(Employee employee) { return bindings.containsKey(employee); }
+
+    public int size() { return size; }
+
+    // Null for top-level employees
+    public Employee managerOf(Employee employee) {
+        return employees[parent[ordinal(employee)]];
+    }
+
+    public List<Employee> directReports(Employee employee) {
+        int o = ordinal(employee);
+        List<Employee> result = new ArrayList<>(childCount[o]);
+        for (int child = firstChild[o]; child >= 0; child = nextSibling[child]) {
+            result.add(employees[child]);
+        }
+        return result;
+    }
+
+    public int directReportCount(Employee employee) {
+        return childCount[ordinal(employee)];
+    }
+
+    // Transitive reports in pre-order, as a read-only view of the current tour;
+    // the view is not affected by later structural changes to the chart
+    public List<Employee> allReports(Employee employee) {
+        int o = ordinal(employee);
+        ensureTour();
+        return Collections.unmodifiableList(Arrays.asList(tour).subList(position[o] + 1, end[o]));
+    }
+
+    public int reportCount(Employee employee) {
+        int o = ordinal(employee);
+        ensureTour();
+        return end[o] - position[o] - 1;
+    }
+
+    // 0 for top-level employees
+    public int depth(Employee employee) {
+        int o = ordinal(employee);
+        ensureTour();
+        return depth[o];
+    }
+
+    // True if the employee reports to the manager directly or transitively
+    public boolean isUnder(Employee employee, Employee manager) {
+        int o = ordinal(employee);
+        int m = ordinal(manager);
+        ensureTour();
+        return position[m] < position[o] && position[o] < end[m];
+    }
+
+    // Salary of the employee plus everyone reporting to them
+    public double teamSalary(Employee employee) {
+        int o = ordinal(employee);
+        ensureTour();
+        return prefixSalary(end[o]) - prefixSalary(position[o]);
+    }
+
+    private int ordinal(Employee employee) {
+        Binding binding = bindings.get(employee);
+        if (binding == null) {
+            throw new IllegalArgumentException("Employee is not in this chart: "
+                    + (employee == null ? null : employee.getId()));
+        }
+        return binding.ordinal;
+    }
+
+    private int insert(Employee employee, int managerOrdinal) {
+        int o;
+        if (freeHead >= 0) {
+            o = freeHead;
+            freeHead = nextSibling[o];
+        } else {
+            if (count == employees.length) {
+                grow();
+            }
+            o = count++;
+        }
+        employees[o] = employee;
+        firstChild[o] = lastChild[o] = -1;
+        childCount[o] = 0;
+        link(o, managerOrdinal);
+        Binding binding = new Binding(o);
+        bindings.put(employee, binding);
+        employee.addListener(binding);
+        if (employee instanceof Manager manager) {
+            manager.chart = this;
+        }
+        size++;
+        return o;
+    }
+
+    private void release(int o) {
+        Employee employee = employees[o];
+        employee.removeListener(bindings.remove(employee));
+        if (employee instanceof Manager manager && manager.chart == this) {
+            manager.chart = null;
+        }
+        unlink(o);
+        employees[o] = null;
+        nextSibling[o] = freeHead;
+        freeHead = o;
+        size--;
+    }
+
+    private void move(int o, int managerOrdinal) {
+        for (int m = managerOrdinal; m != ROOT; m = parent[m]) {
+            if (m == o) {
+                throw new IllegalArgumentException("Employee " + employees[o].getId()
+                        + " cannot report to one of their own reports");
+            }
+        }
+        unlink(o);
+        link(o, managerOrdinal);
+    }
+
+    // Moves the head and everyone under them out of the other chart into this one
+    private void absorb(OrgChart other, Manager head, int managerOrdinal) {
+        int o = other.ordinal(head);
+        other.ensureTour();
+        int from = other.position[o];
+        Employee[] moved = Arrays.copyOfRange(other.tour, from, other.end[o]);
+        // Parents as indexes into moved; pre-order puts every parent before its reports
+        int[] parents = new int[moved.length];
+        parents[0] = -1;
+        for (int i = 1; i < moved.length; i++) {
+            parents[i] = other.position[other.parent[other.ordinal(moved[i])]] - from;
+        }
+        for (int i = moved.length - 1; i >= 0; i--) {
+            other.release(other.ordinal(moved[i]));
+        }
+        int[] ordinals = new int[moved.length];
+        for (int i = 0; i < moved.length; i++) {
+            ordinals[i] = insert(moved[i], i == 0 ? managerOrdinal : ordinals[parents[i]]);
+        }
+    }
+
+    // Appends o to the manager's reports
+    private void link(int o, int managerOrdinal) {
+        parent[o] = managerOrdinal;
+        nextSibling[o] = -1;
+        prevSibling[o] = lastChild[managerOrdinal];
+        if (lastChild[managerOrdinal] >= 0) {
+            nextSibling[lastChild[managerOrdinal]] = o;
+        } else {
+            firstChild[managerOrdinal] = o;
+        }
+        lastChild[managerOrdinal] = o;
+        childCount[managerOrdinal]++;
+        tourValid = false;
+    }
+
+    private void unlink(int o) {
+        int managerOrdinal = parent[o];
+        if (prevSibling[o] >= 0) {
+            nextSibling[prevSibling[o]] = nextSibling[o];
+        } else {
+            firstChild[managerOrdinal] = nextSibling[o];
+        }
+        if (nextSibling[o] >= 0) {
+            prevSibling[nextSibling[o]] = prevSibling[o];
+        } else {
+            lastChild[managerOrdinal] = prevSibling[o];
+        }
+        childCount[managerOrdinal]--;
+        tourValid = false;
+    }
+
+    private void grow() {
+        int capacity = employees.length * 2;
+        employees = Arrays.copyOf(employees, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        firstChild = Arrays.copyOf(firstChild, capacity);
+        lastChild = Arrays.copyOf(lastChild, capacity);
+        nextSibling = Arrays.copyOf(nextSibling, capacity);
+        prevSibling = Arrays.copyOf(prevSibling, capacity);
+        childCount = Arrays.copyOf(childCount, capacity);
+        position = new int[capacity];
+        end = new int[capacity];
+        depth = new int[capacity];
+    }
+
+    // Iterative pre-order walk from the virtual root, so deep hierarchies cannot
+    // overflow the stack
+    private void ensureTour() {
+        if (tourValid) {
+            return;
+        }
+        tour = new Employee[size + 1];
+        salaryTree = new double[size + 2];
+        int next = 0;
+        int o = ROOT;
+        depth[ROOT] = -1;
+        walk:
+        while (true) {
+            position[o] = next;
+            tour[next] = employees[o];
+            if (o != ROOT) {
+                depth[o] = depth[parent[o]] + 1;
+                salaryTree[next + 1] = employees[o].getSalary();
+            }
+            next++;
+            if (firstChild[o] >= 0) {
+                o = firstChild[o];
+                continue;
+            }
+            while (true) {
+                end[o] = next;
+                if (o == ROOT) {
+                    break walk;
+                }
+                if (nextSibling[o] >= 0) {
+                    o = nextSibling[o];
+                    break;
+                }
+                o = parent[o];
+            }
+        }
+        for (int i = 1; i < salaryTree.length; i++) {
+            int j = i + (i & -i);
+            if (j < salaryTree.length) {
+                salaryTree[j] += salaryTree[i];
+            }
+        }
+        tourValid = true;
+    }
+
+    // Sum of salaries at tour positions [0, k)
+    private double prefixSalary(int k) {
+        double sum = 0;
+        for (int i = k; i > 0; i -= i & -i) {
+            sum += salaryTree[i];
+        }
+        return sum;
+    }
+
+    private final class Binding implements EmployeeListener {
+        private final int ordinal;
+
+        private Binding(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public void salaryChanged(Employee employee, double oldSalary) {
+            if (!tourValid) {
+                return;
+            }
+            double delta = employee.getSalary() - oldSalary;
+            for (int i = position[ordinal] + 1; i < salaryTree.length; i += i & -i) {
+                salaryTree[i] += delta;
+            }
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package Employee;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import Department.Department;
+
+/**
+ * Bulk payroll run. Each employee's pay is computed in its own task (by default
+ * on a virtual thread) that calls the {@link TaxService}. A semaphore per
+ * department caps how many of that department's tax calls are in flight, and
+ * the calling thread collects payslips and hands them to a sink in batches.
+ *
+ * A run is scoped the way a structured task scope would be: {@link #run} does
+ * not return until every task it started has finished. After the first failure
+ * it starts no more tasks, cancels the ones in flight (interrupting tax calls
+ * that are blocked), the remaining ones skip the tax call, and the failure is
+ * rethrown. At most {@code maxInFlight} payslips are started and not yet
+ * collected at any time, which bounds memory on large rosters.
+ *
+ * Gross pay is {@link Manager#getTotalCompensation()} for managers and the
+ * salary otherwise (hourly rate times hours for contractors).
+ */
+public class PayrollEngine implements AutoCloseable {
+    public record Payslip(Employee employee, double grossPay, double tax) {
+        public double netPay() { return grossPay - tax; }
+    }
+
+    public record Totals(int payslips, double grossPay, double tax) {
+    }
+
+    // Result of a task started after the run failed
+    private static final Object SKIPPED = new Object();
+
+    private final ExecutorService executor;
+    private final TaxService taxService;
+    private final int departmentLimit;
+    private final int batchSize;
+    private final int maxInFlight;
+
+    // Virtual thread per employee, 10000 payslips in flight
+    public PayrollEngine(TaxService taxService, int departmentLimit, int batchSize) {
+        this(Executors.newVirtualThreadPerTaskExecutor(), taxService, departmentLimit, batchSize, 10_000);
+    }
+
+    // Takes ownership of the executor and shuts it down on close()
+    public PayrollEngine(ExecutorService executor, TaxService taxService, int departmentLimit, int batchSize,
+                         int maxInFlight) {
+        if (departmentLimit < 1 || batchSize < 1 || maxInFlight < 1) {
+            throw new IllegalArgumentException("Department limit, batch size and in-flight limit must be positive");
+        }
+        this.executor = executor;
+        this.taxService = taxService;
+        this.departmentLimit = departmentLimit;
+        this.batchSize = batchSize;
+        this.maxInFlight = maxInFlight;
+    }
+
+    public static double grossPay(Employee employee) {
+        return employee instanceof Manager manager ? manager.getTotalCompensation() : employee.getSalary();
+    }
+
+    // Payslips reach the sink on the calling thread, in completion order, in lists
+    // of batchSize (the last one may be shorter)
+    public Totals run(Collection<? extends Employee> roster, Consumer<List<Payslip>> sink)
+            throws InterruptedException, ExecutionException {
+        Run run = new Run(sink);
+        Map<Department, Semaphore> departments = new HashMap<>();
+        try {
+            for (Employee employee : roster) {
+                while (run.started - run.collected >= maxInFlight) {
+                    run.collect();
+                }
+                if (run.failure != null) {
+                    break;
+                }
+                Semaphore permits = departments.computeIfAbsent(employee.getDepartment(),
+                        department -> new Semaphore(departmentLimit));
+                Task task = new Task(run, employee, permits);
+                run.tasks.add(task);
+                try {
+                    task.future = executor.submit(task);
+                } catch (RuntimeException e) {
+                    run.tasks.remove(task);
+                    throw e;
+                }
+                run.started++;
+            }
+            while (run.failure == null && run.collected < run.started) {
+                run.collect();
+            }
+        } catch (InterruptedException | RuntimeException | Error e) {
+            // Interrupted, or the sink or executor failed: stop the remaining tasks too
+            run.fail(e);
+            throw e;
+        } finally {
+            // Never leave tasks behind; after a failure nothing more reaches the sink
+            boolean interrupted = false;
+            while (run.collected < run.started) {
+                try {
+                    run.collect();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (run.failure != null) {
+            throw new ExecutionException(run.failure);
+        }
+        run.flush();
+        return new Totals(run.payslips, run.grossPay, run.tax);
+    }
+
+    // Task body: a Payslip, or the Throwable that stopped it
+    private Object compute(Run run, Employee employee, Semaphore permits) {
+        try {
+            if (run.failure != null) {
+                return SKIPPED;
+            }
+            double gross = grossPay(employee);
+            permits.acquire();
+            try {
+                // The run may have failed while this task waited for a permit
+                if (run.failure != null) {
+                    return SKIPPED;
+                }
+                return new Payslip(employee, gross, taxService.withholding(employee, gross));
+            } finally {
+                permits.release();
+            }
+        } catch (Throwable e) {
+            return e;
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.close();
+    }
+
+    // One employee's task. Whoever claims it first, the task itself or a cancelling
+    // run, puts its single result on the queue, so cancelled tasks are still collected.
+    private final class Task implements Runnable {
+        private final Run run;
+        private final Employee employee;
+        private final Semaphore permits;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        // Set and read on the calling thread only
+        private Future<?> future;
+
+        Task(Run run, Employee employee, Semaphore permits) {
+            this.run = run;
+            this.employee = employee;
+            this.permits = permits;
+        }
+
+        @Override
+        public void run() {
+            if (claimed.compareAndSet(false, true)) {
+                try {
+                    run.results.add(compute(run, employee, permits));
+                } finally {
+                    run.tasks.remove(this);
+                }
+            }
+        }
+
+        void cancel() {
+            if (claimed.compareAndSet(false, true)) {
+                run.tasks.remove(this);
+                run.results.add(SKIPPED);
+            }
+            future.cancel(true);
+        }
+    }
+
+    // State of one run; everything but results, tasks and failure is owned by the calling thread
+    private final class Run {
+        private final BlockingQueue<Object> results = new LinkedBlockingQueue<>();
+        // Started tasks that have not finished yet
+        private final Set<Task> tasks = ConcurrentHashMap.newKeySet();
+        private final Consumer<List<Payslip>> sink;
+        private volatile Throwable failure;
+        private List<Payslip> batch = new ArrayList<>(batchSize);
+        private int started;
+        private int collected;
+        private int payslips;
+        private double grossPay;
+        private double tax;
+
+        Run(Consumer<List<Payslip>> sink) {
+            this.sink = sink;
+        }
+
+        void collect() throws InterruptedException {
+            Object result = results.take();
+            collected++;
+            if (result instanceof Payslip payslip) {
+                if (failure != null) {
+                    return;
+                }
+                payslips++;
+                grossPay += payslip.grossPay();
+                tax += payslip.tax();
+                batch.add(payslip);
+                if (batch.size() == batchSize) {
+                    flush();
+                }
+            } else if (result instanceof Throwable e) {
+                fail(e);
+            }
+        }
+
+        // Records the first failure and cancels the tasks still in flight
+        void fail(Throwable e) {
+            if (failure != null) {
+                return;
+            }
+            failure = e;
+            for (Task task : tasks) {
+                task.cancel();
+            }
+        }
+
+        void flush() {
+            if (!batch.isEmpty()) {
+                List<Payslip> full = batch;
+                batch = new ArrayList<>(batchSize);
+                sink.accept(full);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package Employee;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import Department.DepartmentRegistry;
+
+/**
+ * Deep-clones whole rosters in parallel on a fork-join pool, for point-in-time
+ * copies of the organization. Each employee is cloned with its own
+ * {@link Employee#deepClone()} (or {@link Employee#deepClone(DepartmentRegistry)}),
+ * so subclass types are preserved, and the result keeps the roster's order.
+ */
+public class RosterCloner {
+    // Below this many employees a task clones sequentially instead of splitting
+    private static final int THRESHOLD = 2048;
+
+    private final ForkJoinPool pool;
+
+    public RosterCloner() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public RosterCloner(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public List<Employee> deepCloneAll(List<? extends Employee> roster) {
+        return cloneAll(roster, null);
+    }
+
+    // Clones share the registry's canonical departments instead of one copy per employee
+    public List<Employee> deepCloneAll(List<? extends Employee> roster, DepartmentRegistry registry) {
+        return cloneAll(roster, Objects.requireNonNull(registry));
+    }
+
+    private List<Employee> cloneAll(List<? extends Employee> roster, DepartmentRegistry registry) {
+        // Random access is needed for splitting; copying the references is cheap next to cloning
+        Employee[] source = roster.toArray(new Employee[0]);
+        Employee[] target = new Employee[source.length];
+        pool.invoke(new CloneTask(source, target, 0, source.length, registry));
+        return Arrays.asList(target);
+    }
+
+    private static final class CloneTask extends RecursiveAction {
+        private final Employee[] source;
+        private final Employee[] target;
+        private final int from;
+        private final int to;
+        private final DepartmentRegistry registry;
+
+        CloneTask(Employee[] source, Employee[] target, int from, int to, DepartmentRegistry registry) {
+            this.source = source;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+            this.registry = registry;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    Employee employee = source[i];
+                    if (employee != null) {
+                        target[i] = registry == null ? employee.deepClone() : employee.deepClone(registry);
+                    }
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new CloneTask(source, target, from, mid, registry),
+                    new CloneTask(source, target, mid, to, registry));
+        }
+    }
+}
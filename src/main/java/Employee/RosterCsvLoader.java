@@ -0,0 +1,427 @@
+package Employee;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+import Department.Department;
+import Department.DepartmentRegistry;
+
+/**
+ * Streaming CSV loader for roster exports. The file is read through NIO in fixed
+ * chunks and fields are parsed straight from the bytes: no line Strings or
+ * String[] per record, salaries parsed without a String, and department and skill
+ * strings interned from the bytes so repeats cost a hash lookup. Parsing runs on
+ * a background thread that hands batches to the consumer (on the calling thread)
+ * through a bounded queue, so memory stays flat however large the file is and a
+ * slow consumer simply holds the parser back.
+ *
+ * <pre>
+ * id,name,salary,department,location,skills
+ * E001,John Doe,75000,Engineering,Building A,Java;Docker
+ * E002,"Smith, Jane",80000.50,Marketing,Building B,
+ * </pre>
+ *
+ * The header row is optional. Fields may be quoted with "" as an escaped quote;
+ * skills are separated by ';'. An empty department and location mean no
+ * department, and employees share the registry's read-only canonical Department
+ * instances.
+ */
+public class RosterCsvLoader {
+    private static final int FIELDS = 6;
+    private static final int CHUNK_SIZE = 1 << 20;
+    private static final List<Employee> END = List.of();
+    // Every power of ten up to 1e22 is an exact double
+    private static final double[] POWERS_OF_TEN = new double[23];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final int batchSize;
+    private final int queueDepth;
+    private final DepartmentRegistry registry;
+
+    public RosterCsvLoader() {
+        this(1024, 4, new DepartmentRegistry());
+    }
+
+    public RosterCsvLoader(int batchSize, int queueDepth, DepartmentRegistry registry) {
+        if (batchSize < 1 || queueDepth < 1) {
+            throw new IllegalArgumentException("Batch size and queue depth must be positive");
+        }
+        this.batchSize = batchSize;
+        this.queueDepth = queueDepth;
+        this.registry = registry;
+    }
+
+    // Returns the number of employees loaded
+    public long load(Path file, Consumer<List<Employee>> consumer) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return load(channel, consumer);
+        }
+    }
+
+    public long load(ReadableByteChannel channel, Consumer<List<Employee>> consumer) throws IOException {
+        BlockingQueue<List<Employee>> queue = new ArrayBlockingQueue<>(queueDepth);
+        Parser parser = new Parser(channel, queue);
+        Thread thread = new Thread(parser, "roster-csv-loader");
+        thread.setDaemon(true);
+        thread.start();
+        long count = 0;
+        boolean finished = false;
+        try {
+            while (true) {
+                List<Employee> batch = queue.take();
+                if (batch == END) {
+                    break;
+                }
+                consumer.accept(batch);
+                count += batch.size();
+            }
+            finished = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while loading roster");
+        } finally {
+            if (!finished) {
+                thread.interrupt();
+            }
+        }
+        if (parser.failure instanceof IOException e) {
+            throw e;
+        }
+        if (parser.failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (parser.failure != null) {
+            throw new IOException(parser.failure);
+        }
+        return count;
+    }
+
+    private final class Parser implements Runnable {
+        private final ReadableByteChannel channel;
+        private final BlockingQueue<List<Employee>> queue;
+        private final ByteInterner interner = new ByteInterner();
+        private final int[] starts = new int[FIELDS];
+        private final int[] ends = new int[FIELDS];
+        private final boolean[] escaped = new boolean[FIELDS];
+        private byte[] scratch = new byte[256];
+        private List<Employee> batch = new ArrayList<>(batchSize);
+        private long record;
+        // Read by the loading thread after END, which the queue publishes safely
+        private Throwable failure;
+
+        private Parser(ReadableByteChannel channel, BlockingQueue<List<Employee>> queue) {
+            this.channel = channel;
+            this.queue = queue;
+        }
+
+        @Override
+        public void run() {
+            try {
+                parseAll();
+                if (!batch.isEmpty()) {
+                    queue.put(batch);
+                }
+            } catch (InterruptedException e) {
+                return;
+            } catch (Throwable e) {
+                failure = e;
+            }
+            try {
+                queue.put(END);
+            } catch (InterruptedException ignored) {
+                // The consumer gave up, nobody is waiting for the end marker
+            }
+        }
+
+        private void parseAll() throws IOException, InterruptedException {
+            ByteBuffer buffer = ByteBuffer.allocate(CHUNK_SIZE);
+            boolean eof = false;
+            while (!eof) {
+                eof = channel.read(buffer) < 0;
+                byte[] bytes = buffer.array();
+                int limit = buffer.position();
+                int consumed = parseRecords(bytes, limit, eof);
+                if (consumed == 0 && limit == buffer.capacity()) {
+                    // One record larger than the buffer
+                    buffer = ByteBuffer.allocate(buffer.capacity() * 2).put(buffer.flip());
+                } else {
+                    buffer.position(consumed).limit(limit);
+                    buffer.compact();
+                }
+            }
+        }
+
+        // Parses the complete records in bytes[0, limit) and returns where the rest starts
+        private int parseRecords(byte[] bytes, int limit, boolean eof) throws IOException, InterruptedException {
+            int pos = 0;
+            while (pos < limit) {
+                byte b = bytes[pos];
+                if (b == '\n' || b == '\r') {
+                    pos++;
+                    continue;
+                }
+                int next = scanRecord(bytes, pos, limit, eof);
+                if (next < 0) {
+                    return pos;
+                }
+                if (record > 0 || !isHeader(bytes)) {
+                    batch.add(toEmployee(bytes));
+                    if (batch.size() == batchSize) {
+                        queue.put(batch);
+                        batch = new ArrayList<>(batchSize);
+                    }
+                }
+                record++;
+                pos = next;
+            }
+            return pos;
+        }
+
+        // Records field bounds for the record at pos; returns the position after it,
+        // or -1 if the record is cut off by the end of the chunk
+        private int scanRecord(byte[] bytes, int pos, int limit, boolean eof) throws IOException {
+            int field = 0;
+            while (true) {
+                if (field == FIELDS) {
+                    throw error("more than " + FIELDS + " fields");
+                }
+                escaped[field] = false;
+                if (pos < limit && bytes[pos] == '"') {
+                    int start = pos + 1;
+                    int i = start;
+                    while (true) {
+                        if (i >= limit) {
+                            if (eof) {
+                                throw error("unterminated quoted field");
+                            }
+                            return -1;
+                        }
+                        if (bytes[i] == '"') {
+                            if (i + 1 < limit && bytes[i + 1] == '"') {
+                                escaped[field] = true;
+                                i += 2;
+                                continue;
+                            }
+                            if (i + 1 == limit && !eof) {
+                                return -1;
+                            }
+                            break;
+                        }
+                        i++;
+                    }
+                    starts[field] = start;
+                    ends[field] = i;
+                    pos = i + 1;
+                } else {
+                    int i = pos;
+                    while (i < limit && bytes[i] != ',' && bytes[i] != '\n' && bytes[i] != '\r') {
+                        i++;
+                    }
+                    starts[field] = pos;
+                    ends[field] = i;
+                    pos = i;
+                }
+                field++;
+                if (pos == limit) {
+                    if (!eof) {
+                        return -1;
+                    }
+                    break;
+                }
+                if (bytes[pos] == ',') {
+                    pos++;
+                    continue;
+                }
+                if (bytes[pos] != '\n' && bytes[pos] != '\r') {
+                    throw error("unexpected character after quoted field");
+                }
+                pos++;
+                break;
+            }
+            if (field < FIELDS - 1) {
+                throw error("expected " + FIELDS + " fields but found " + field);
+            }
+            if (field == FIELDS - 1) {
+                // Trailing skills column left off entirely
+                starts[FIELDS - 1] = ends[FIELDS - 1] = 0;
+                escaped[FIELDS - 1] = false;
+            }
+            return pos;
+        }
+
+        private boolean isHeader(byte[] bytes) {
+            int length = ends[0] - starts[0];
+            return length == 2 && (bytes[starts[0]] | 0x20) == 'i' && (bytes[starts[0] + 1] | 0x20) == 'd';
+        }
+
+        private Employee toEmployee(byte[] bytes) throws IOException {
+            String id = string(bytes, 0);
+            String name = string(bytes, 1);
+            double salary = parseSalary(bytes);
+            Department department = null;
+            if (ends[3] > starts[3] || ends[4] > starts[4]) {
+                department = registry.intern(interned(bytes, 3), interned(bytes, 4));
+            }
+            Employee employee = new Employee(id, name, salary, department);
+            int from = starts[5];
+            int end = ends[5];
+            if (escaped[5]) {
+                end = unescape(bytes, 5);
+                bytes = scratch;
+                from = 0;
+            }
+            for (int i = from; i < end; i++) {
+                if (bytes[i] == ';') {
+                    addSkill(employee, bytes, from, i);
+                    from = i + 1;
+                }
+            }
+            addSkill(employee, bytes, from, end);
+            return employee;
+        }
+
+        private void addSkill(Employee employee, byte[] bytes, int from, int to) {
+            if (to > from) {
+                employee.addSkill(interner.intern(bytes, from, to));
+            }
+        }
+
+        private String string(byte[] bytes, int field) {
+            if (escaped[field]) {
+                return new String(scratch, 0, unescape(bytes, field), StandardCharsets.UTF_8);
+            }
+            return new String(bytes, starts[field], ends[field] - starts[field], StandardCharsets.UTF_8);
+        }
+
+        private String interned(byte[] bytes, int field) {
+            if (escaped[field]) {
+                return interner.intern(scratch, 0, unescape(bytes, field));
+            }
+            return interner.intern(bytes, starts[field], ends[field]);
+        }
+
+        // Copies the field into scratch with "" collapsed to " and returns its length
+        private int unescape(byte[] bytes, int field) {
+            int length = ends[field] - starts[field];
+            if (scratch.length < length) {
+                scratch = new byte[Math.max(length, scratch.length * 2)];
+            }
+            int n = 0;
+            for (int i = starts[field]; i < ends[field]; i++) {
+                scratch[n++] = bytes[i];
+                if (bytes[i] == '"') {
+                    i++;
+                }
+            }
+            return n;
+        }
+
+        // Plain decimals are parsed in place; anything else goes through Double.parseDouble
+        private double parseSalary(byte[] bytes) throws IOException {
+            int i = starts[2];
+            int end = ends[2];
+            boolean negative = i < end && bytes[i] == '-';
+            if (negative) {
+                i++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int fractionDigits = -1;
+            for (; i < end; i++) {
+                byte b = bytes[i];
+                if (b >= '0' && b <= '9') {
+                    mantissa = mantissa * 10 + (b - '0');
+                    digits++;
+                    if (fractionDigits >= 0) {
+                        fractionDigits++;
+                    }
+                } else if (b == '.' && fractionDigits < 0) {
+                    fractionDigits = 0;
+                } else {
+                    break;
+                }
+            }
+            // Exact below 2^53 with at most 22 fraction digits: one correctly rounded division
+            if (i == end && digits > 0 && digits <= 15 && fractionDigits <= 22) {
+                double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+                return negative ? -value : value;
+            }
+            String text = string(bytes, 2).trim();
+            try {
+                return Double.parseDouble(text);
+            } catch (NumberFormatException e) {
+                throw error("invalid salary '" + text + "'");
+            }
+        }
+
+        private IOException error(String message) {
+            return new IOException("Record " + (record + 1) + ": " + message);
+        }
+    }
+
+    // Open-addressing table from UTF-8 byte content to one shared String
+    private static final class ByteInterner {
+        private byte[][] keys = new byte[64][];
+        private String[] values = new String[64];
+        private int size;
+
+        String intern(byte[] bytes, int from, int to) {
+            int slot = slot(keys, bytes, from, to);
+            while (keys[slot] != null) {
+                if (Arrays.equals(keys[slot], 0, keys[slot].length, bytes, from, to)) {
+                    return values[slot];
+                }
+                slot = (slot + 1) & (keys.length - 1);
+            }
+            byte[] key = Arrays.copyOfRange(bytes, from, to);
+            String value = new String(key, StandardCharsets.UTF_8);
+            keys[slot] = key;
+            values[slot] = value;
+            if (++size * 2 > keys.length) {
+                rehash();
+            }
+            return value;
+        }
+
+        private void rehash() {
+            byte[][] oldKeys = keys;
+            String[] oldValues = values;
+            keys = new byte[oldKeys.length * 2][];
+            values = new String[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                byte[] key = oldKeys[i];
+                if (key != null) {
+                    int slot = slot(keys, key, 0, key.length);
+                    while (keys[slot] != null) {
+                        slot = (slot + 1) & (keys.length - 1);
+                    }
+                    keys[slot] = key;
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+
+        private static int slot(byte[][] table, byte[] bytes, int from, int to) {
+            int hash = 1;
+            for (int i = from; i < to; i++) {
+                hash = 31 * hash + bytes[i];
+            }
+            return (hash ^ (hash >>> 16)) & (table.length - 1);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package Employee;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import Department.Department;
+
+/**
+ * Multi-key roster sort for reports. The sort keys are extracted once into
+ * primitive arrays (salary as sortable long bits, and department and name as
+ * dense ranks among the distinct values present, so each distinct name is
+ * compared as a String only once per sort) and a parallel merge sort orders an
+ * index permutation by comparing those arrays alone. The roster is then
+ * permuted once.
+ *
+ * All keys are ascending. Departments order by name, then location, with no
+ * department first; names order like {@link String#compareTo}, nulls first. The
+ * sort is stable, so sorting by {@link Key#SALARY} alone gives exactly the order
+ * of {@link Collections#sort} with {@link Employee#compareTo}.
+ */
+public class RosterSorter {
+    public enum Key { DEPARTMENT, SALARY, NAME }
+
+    // Below this many entries a task sorts or merges sequentially instead of splitting
+    private static final int THRESHOLD = 8192;
+    private static final int INSERTION_SORT = 32;
+
+    private final ForkJoinPool pool;
+    private final Key[] keys;
+
+    public RosterSorter(Key... keys) {
+        this(ForkJoinPool.commonPool(), keys);
+    }
+
+    public RosterSorter(ForkJoinPool pool, Key... keys) {
+        if (keys.length == 0) {
+            throw new IllegalArgumentException("At least one sort key is required");
+        }
+        this.pool = pool;
+        this.keys = keys.clone();
+    }
+
+    // Sorts the roster in place
+    public <E extends Employee> void sort(List<E> roster) {
+        Object[] items = roster.toArray();
+        int[] order = order(items);
+        ListIterator<E> it = roster.listIterator();
+        for (int index : order) {
+            it.next();
+            @SuppressWarnings("unchecked")
+            E employee = (E) items[index];
+            it.set(employee);
+        }
+    }
+
+    // Positions of the roster's employees in sorted order
+    public int[] order(List<? extends Employee> roster) {
+        return order(roster.toArray());
+    }
+
+    // Long whose signed order matches Double.compare, including -0.0 and NaN
+    public static long sortableBits(double value) {
+        long bits = Double.doubleToLongBits(value);
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    private int[] order(Object[] items) {
+        int n = items.length;
+        Comparison comparison = new Comparison(keys, items);
+        int[] order = new int[n];
+        Arrays.setAll(order, i -> i);
+        if (n > 1) {
+            pool.invoke(new SortTask(comparison, order, new int[n], 0, n));
+        }
+        return order;
+    }
+
+    // Primitive sort keys per level, indexed by position in the original roster
+    private static final class Comparison {
+        private final long[][] levels;
+
+        Comparison(Key[] keys, Object[] items) {
+            levels = new long[keys.length][];
+            for (int k = 0; k < keys.length; k++) {
+                long[] level = new long[items.length];
+                switch (keys[k]) {
+                    case SALARY -> Arrays.parallelSetAll(level, i -> sortableBits(((Employee) items[i]).getSalary()));
+                    case DEPARTMENT -> departmentRanks(items, level);
+                    case NAME -> nameRanks(items, level);
+                }
+                levels[k] = level;
+            }
+        }
+
+        int compare(int i, int j) {
+            for (long[] level : levels) {
+                int cmp = Long.compare(level[i], level[j]);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        }
+
+        // Rank of each employee's name among the distinct names present, null first;
+        // each distinct name is compared as a String only while ranking the distinct set
+        private static void nameRanks(Object[] items, long[] level) {
+            Map<String, Integer> distinct = new HashMap<>();
+            int[] codes = new int[items.length];
+            for (int i = 0; i < items.length; i++) {
+                String name = ((Employee) items[i]).getName();
+                if (name == null) {
+                    codes[i] = -1;
+                } else {
+                    Integer code = distinct.get(name);
+                    if (code == null) {
+                        code = distinct.size();
+                        distinct.put(name, code);
+                    }
+                    codes[i] = code;
+                }
+            }
+            String[] sorted = distinct.keySet().toArray(new String[0]);
+            Arrays.parallelSort(sorted);
+            long[] rank = new long[sorted.length];
+            for (int r = 0; r < sorted.length; r++) {
+                rank[distinct.get(sorted[r])] = r;
+            }
+            for (int i = 0; i < items.length; i++) {
+                level[i] = codes[i] < 0 ? -1 : rank[codes[i]];
+            }
+        }
+
+        // Dense rank of each employee's department among the distinct departments present
+        private static void departmentRanks(Object[] items, long[] level) {
+            Map<Department, Integer> distinct = new HashMap<>();
+            int[] codes = new int[items.length];
+            for (int i = 0; i < items.length; i++) {
+                Department department = ((Employee) items[i]).getDepartment();
+                if (department == null) {
+                    codes[i] = -1;
+                } else {
+                    Integer code = distinct.get(department);
+                    if (code == null) {
+                        code = distinct.size();
+                        distinct.put(department, code);
+                    }
+                    codes[i] = code;
+                }
+            }
+            Department[] byCode = new Department[distinct.size()];
+            distinct.forEach((department, code) -> byCode[code] = department);
+            Integer[] sorted = new Integer[byCode.length];
+            Arrays.setAll(sorted, i -> i);
+            Comparator<String> strings = Comparator.nullsFirst(Comparator.naturalOrder());
+            Arrays.sort(sorted, Comparator.comparing((Integer code) -> byCode[code].getName(), strings)
+                    .thenComparing(code -> byCode[code].getLocation(), strings));
+            long[] rank = new long[byCode.length];
+            for (int r = 0; r < sorted.length; r++) {
+                rank[sorted[r]] = r;
+            }
+            for (int i = 0; i < items.length; i++) {
+                level[i] = codes[i] < 0 ? -1 : rank[codes[i]];
+            }
+        }
+    }
+
+    // Stable merge sort of a[from, to) using b as scratch
+    private static final class SortTask extends RecursiveAction {
+        private final Comparison comparison;
+        private final int[] a;
+        private final int[] b;
+        private final int from;
+        private final int to;
+
+        SortTask(Comparison comparison, int[] a, int[] b, int from, int to) {
+            this.comparison = comparison;
+            this.a = a;
+            this.b = b;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= THRESHOLD) {
+                sequentialSort(comparison, a, b, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new SortTask(comparison, a, b, from, mid), new SortTask(comparison, a, b, mid, to));
+            if (comparison.compare(a[mid - 1], a[mid]) <= 0) {
+                return;
+            }
+            System.arraycopy(a, from, b, from, to - from);
+            new MergeTask(comparison, b, from, mid, mid, to, a, from).compute();
+        }
+    }
+
+    // Merges src[from1, to1) and src[from2, to2) into dst starting at out, left run first on ties
+    private static final class MergeTask extends RecursiveAction {
+        private final Comparison comparison;
+        private final int[] src;
+        private final int from1, to1, from2, to2;
+        private final int[] dst;
+        private final int out;
+
+        MergeTask(Comparison comparison, int[] src, int from1, int to1, int from2, int to2, int[] dst, int out) {
+            this.comparison = comparison;
+            this.src = src;
+            this.from1 = from1;
+            this.to1 = to1;
+            this.from2 = from2;
+            this.to2 = to2;
+            this.dst = dst;
+            this.out = out;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = to1 - from1;
+            int length2 = to2 - from2;
+            if (length1 + length2 <= THRESHOLD) {
+                merge(comparison, src, from1, to1, from2, to2, dst, out);
+                return;
+            }
+            // Split the longer run in half and the other where its middle element would go
+            int split1, split2;
+            if (length1 >= length2) {
+                split1 = (from1 + to1) >>> 1;
+                split2 = lowerBound(src[split1], from2, to2);
+            } else {
+                split2 = (from2 + to2) >>> 1;
+                split1 = upperBound(src[split2], from1, to1);
+            }
+            int outSplit = out + (split1 - from1) + (split2 - from2);
+            invokeAll(new MergeTask(comparison, src, from1, split1, from2, split2, dst, out),
+                    new MergeTask(comparison, src, split1, to1, split2, to2, dst, outSplit));
+        }
+
+        // First position in [from, to) whose entry is not less than the key
+        private int lowerBound(int key, int from, int to) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                if (comparison.compare(src[mid], key) < 0) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+
+        // First position in [from, to) whose entry is greater than the key
+        private int upperBound(int key, int from, int to) {
+            while (from < to) {
+                int mid = (from + to) >>> 1;
+                if (comparison.compare(src[mid], key) <= 0) {
+                    from = mid + 1;
+                } else {
+                    to = mid;
+                }
+            }
+            return from;
+        }
+    }
+
+    private static void sequentialSort(Comparison comparison, int[] a, int[] b, int from, int to) {
+        if (to - from <= INSERTION_SORT) {
+            for (int i = from + 1; i < to; i++) {
+                int x = a[i];
+                int j = i;
+                while (j > from && comparison.compare(a[j - 1], x) > 0) {
+                    a[j] = a[j - 1];
+                    j--;
+                }
+                a[j] = x;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        sequentialSort(comparison, a, b, from, mid);
+        sequentialSort(comparison, a, b, mid, to);
+        if (comparison.compare(a[mid - 1], a[mid]) <= 0) {
+            return;
+        }
+        System.arraycopy(a, from, b, from, to - from);
+        merge(comparison, b, from, mid, mid, to, a, from);
+    }
+
+    private static void merge(Comparison comparison, int[] src, int from1, int to1, int from2, int to2,
+                              int[] dst, int out) {
+        int i = from1;
+        int j = from2;
+        while (i < to1 && j < to2) {
+            dst[out++] = comparison.compare(src[i], src[j]) <= 0 ? src[i++] : src[j++];
+        }
+        System.arraycopy(src, i, dst, out, to1 - i);
+        System.arraycopy(src, j, dst, out + (to1 - i), to2 - j);
+    }
+}
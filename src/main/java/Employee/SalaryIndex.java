@@ -0,0 +1,271 @@
+package Employee;
+import java.util.*;
+
+/**
+ * Salary-ordered index over employees for pay-band range, rank and percentile
+ * queries. Entries are (salary, employee ordinal) pairs kept in a two-level
+ * structure: sorted primitive chunks of bounded size plus a Fenwick tree of
+ * chunk sizes, so lookups are O(log n) and an update only shifts one chunk and
+ * touches O(log n) tree nodes. Only splitting or dropping a chunk, once every
+ * few hundred updates, rebuilds the tree.
+ *
+ * Salaries are ordered with {@link Double#compare}, like {@link Employee#compareTo};
+ * employees with equal salaries are all kept and ordered by ordinal.
+ * {@link Employee#setSalary(double)} on an indexed employee updates the index.
+ */
+public class SalaryIndex {
+    private static final int CHUNK_SIZE = 512;
+
+    private final List<Employee> employees = new ArrayList<>();
+    private Chunk[] chunks = new Chunk[]{new Chunk()};
+    private int chunkCount = 1;
+    // Fenwick tree (1-based) over chunk sizes
+    private int[] tree = new int[2];
+
+    public int add(Employee employee) {
+        int ordinal = employees.size();
+        employees.add(employee);
+        insert(employee.getSalary(), ordinal);
+        employee.addListener(new Binding(ordinal));
+        return ordinal;
+    }
+
+    public int size() { return employees.size(); }
+
+    public Employee employee(int ordinal) { return employees.get(ordinal); }
+
+    // Number of employees earning strictly less than the salary
+    public int rank(double salary) {
+        return lowerBound(salary, Integer.MIN_VALUE);
+    }
+
+    // Number of employees earning min <= salary <= max
+    public int countBetween(double min, double max) {
+        if (Double.compare(min, max) > 0) {
+            return 0;
+        }
+        return lowerBound(max, Integer.MAX_VALUE) - lowerBound(min, Integer.MIN_VALUE);
+    }
+
+    // Ordinals of employees earning min <= salary <= max, in salary order
+    public int[] between(double min, double max) {
+        int from = lowerBound(min, Integer.MIN_VALUE);
+        int to = Double.compare(min, max) > 0 ? from : lowerBound(max, Integer.MAX_VALUE);
+        int[] result = new int[to - from];
+        int c = chunkAt(from);
+        int i = from - entriesBefore(c);
+        for (int n = 0; n < result.length; n++) {
+            while (i == chunks[c].size) {
+                c++;
+                i = 0;
+            }
+            result[n] = chunks[c].ordinals[i++];
+        }
+        return result;
+    }
+
+    public List<Employee> employeesBetween(double min, double max) {
+        int[] ordinals = between(min, max);
+        List<Employee> result = new ArrayList<>(ordinals.length);
+        for (int ordinal : ordinals) {
+            result.add(employees.get(ordinal));
+        }
+        return result;
+    }
+
+    // Ordinal of the k-th lowest paid employee (0-based)
+    public int ordinalAt(int k) {
+        Objects.checkIndex(k, size());
+        int c = chunkAt(k);
+        return chunks[c].ordinals[k - entriesBefore(c)];
+    }
+
+    public double salaryAt(int k) {
+        Objects.checkIndex(k, size());
+        int c = chunkAt(k);
+        return chunks[c].salaries[k - entriesBefore(c)];
+    }
+
+    // Nearest-rank percentile, p in [0, 100]
+    public double percentile(double p) {
+        if (size() == 0) {
+            throw new NoSuchElementException("Index is empty");
+        }
+        if (p < 0 || p > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + p);
+        }
+        int k = (int) Math.ceil(p / 100 * size()) - 1;
+        return salaryAt(Math.max(k, 0));
+    }
+
+    private void insert(double salary, int ordinal) {
+        int c = chunkFor(salary, ordinal);
+        Chunk chunk = chunks[c];
+        int i = chunk.search(salary, ordinal);
+        chunk.insert(-i - 1, salary, ordinal);
+        if (chunk.size == 2 * CHUNK_SIZE) {
+            split(c);
+            rebuildTree();
+        } else {
+            addToTree(c, 1);
+        }
+    }
+
+    private void remove(double salary, int ordinal) {
+        int c = chunkFor(salary, ordinal);
+        Chunk chunk = chunks[c];
+        int i = chunk.search(salary, ordinal);
+        if (i < 0) {
+            throw new IllegalStateException("Salary index out of sync for ordinal " + ordinal);
+        }
+        chunk.remove(i);
+        if (chunk.size == 0 && chunkCount > 1) {
+            System.arraycopy(chunks, c + 1, chunks, c, chunkCount - c - 1);
+            chunks[--chunkCount] = null;
+            rebuildTree();
+        } else {
+            addToTree(c, -1);
+        }
+    }
+
+    // Chunk that holds, or would hold, the key: the first whose last entry is >= key
+    private int chunkFor(double salary, int ordinal) {
+        int low = 0;
+        int high = chunkCount - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            Chunk chunk = chunks[mid];
+            if (compare(chunk.salaries[chunk.size - 1], chunk.ordinals[chunk.size - 1], salary, ordinal) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Global position of the first entry >= (salary, ordinal)
+    private int lowerBound(double salary, int ordinal) {
+        int c = chunkFor(salary, ordinal);
+        int i = chunks[c].search(salary, ordinal);
+        return entriesBefore(c) + (i < 0 ? -i - 1 : i);
+    }
+
+    // Chunk containing global position k (k may equal size for an end position):
+    // the last chunk c with entriesBefore(c) <= k, found by descending the tree
+    private int chunkAt(int k) {
+        int c = 0;
+        for (int step = Integer.highestOneBit(chunkCount); step > 0; step >>>= 1) {
+            int next = c + step;
+            if (next <= chunkCount && tree[next] <= k) {
+                c = next;
+                k -= tree[next];
+            }
+        }
+        return Math.min(c, chunkCount - 1);
+    }
+
+    // Entries in chunks before chunk c
+    private int entriesBefore(int c) {
+        int total = 0;
+        for (int i = c; i > 0; i -= i & -i) {
+            total += tree[i];
+        }
+        return total;
+    }
+
+    private void addToTree(int c, int delta) {
+        for (int i = c + 1; i <= chunkCount; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    // O(chunkCount) bottom-up build after chunks are split or dropped
+    private void rebuildTree() {
+        if (tree.length <= chunkCount) {
+            tree = new int[chunks.length + 1];
+        }
+        for (int i = 1; i <= chunkCount; i++) {
+            tree[i] = chunks[i - 1].size;
+        }
+        for (int i = 1; i <= chunkCount; i++) {
+            int parent = i + (i & -i);
+            if (parent <= chunkCount) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    private void split(int c) {
+        Chunk chunk = chunks[c];
+        Chunk upper = new Chunk();
+        int half = chunk.size / 2;
+        upper.size = chunk.size - half;
+        System.arraycopy(chunk.salaries, half, upper.salaries, 0, upper.size);
+        System.arraycopy(chunk.ordinals, half, upper.ordinals, 0, upper.size);
+        chunk.size = half;
+        if (chunkCount == chunks.length) {
+            chunks = Arrays.copyOf(chunks, chunkCount * 2);
+        }
+        System.arraycopy(chunks, c + 1, chunks, c + 2, chunkCount - c - 1);
+        chunks[c + 1] = upper;
+        chunkCount++;
+    }
+
+    private static int compare(double salary1, int ordinal1, double salary2, int ordinal2) {
+        int cmp = Double.compare(salary1, salary2);
+        return cmp != 0 ? cmp : Integer.compare(ordinal1, ordinal2);
+    }
+
+    private static final class Chunk {
+        private final double[] salaries = new double[2 * CHUNK_SIZE];
+        private final int[] ordinals = new int[2 * CHUNK_SIZE];
+        private int size;
+
+        // Binary search in the style of Arrays.binarySearch
+        int search(double salary, int ordinal) {
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(salaries[mid], ordinals[mid], salary, ordinal);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        void insert(int i, double salary, int ordinal) {
+            System.arraycopy(salaries, i, salaries, i + 1, size - i);
+            System.arraycopy(ordinals, i, ordinals, i + 1, size - i);
+            salaries[i] = salary;
+            ordinals[i] = ordinal;
+            size++;
+        }
+
+        void remove(int i) {
+            System.arraycopy(salaries, i + 1, salaries, i, size - i - 1);
+            System.arraycopy(ordinals, i + 1, ordinals, i, size - i - 1);
+            size--;
+        }
+    }
+
+    private final class Binding implements EmployeeListener {
+        private final int ordinal;
+
+        private Binding(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public void salaryChanged(Employee employee, double oldSalary) {
+            remove(oldSalary, ordinal);
+            insert(employee.getSalary(), ordinal);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package Employee;
+import java.util.*;
+
+/**
+ * Inverted index from skill to the employees holding it. Every distinct skill gets
+ * an ordinal and a compressed {@link OrdinalBitmap} of employee ordinals, so
+ * "has Java and Docker but not Python" is a couple of bitmap operations instead
+ * of a scan. Indexed employees are followed through {@link EmployeeListener}, so
+ * later {@link Employee#addSkill(String)} calls update the index.
+ */
+public class SkillIndex {
+    private final List<Employee> employees = new ArrayList<>();
+    private final Map<String, Integer> skillOrdinals = new HashMap<>();
+    private final List<String> skills = new ArrayList<>();
+    private final List<OrdinalBitmap> bitmaps = new ArrayList<>();
+
+    // Indexes the employee's current skills and returns its ordinal
+    public int add(Employee employee) {
+        int ordinal = employees.size();
+        employees.add(employee);
+        for (String skill : employee.getSkills()) {
+            index(ordinal, skill);
+        }
+        employee.addListener(new Binding(ordinal));
+        return ordinal;
+    }
+
+    public int size() { return employees.size(); }
+
+    public Employee employee(int ordinal) { return employees.get(ordinal); }
+
+    public List<Employee> employees(OrdinalBitmap ordinals) {
+        List<Employee> result = new ArrayList<>(ordinals.cardinality());
+        ordinals.forEach(ordinal -> result.add(employees.get(ordinal)));
+        return result;
+    }
+
+    // -1 for a skill no indexed employee has
+    public int skillOrdinal(String skill) {
+        Integer ordinal = skillOrdinals.get(skill);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    public String skill(int ordinal) { return skills.get(ordinal); }
+
+    public int skillCount() { return skills.size(); }
+
+    public boolean hasSkill(int employeeOrdinal, String skill) {
+        int ordinal = skillOrdinal(skill);
+        return ordinal >= 0 && bitmaps.get(ordinal).contains(employeeOrdinal);
+    }
+
+    public OrdinalBitmap withSkill(String skill) {
+        int ordinal = skillOrdinal(skill);
+        return ordinal < 0 ? new OrdinalBitmap() : bitmaps.get(ordinal).copy();
+    }
+
+    // Employees holding every one of the skills
+    public OrdinalBitmap allOf(String... skills) {
+        if (skills.length == 0) {
+            return new OrdinalBitmap();
+        }
+        OrdinalBitmap[] sets = new OrdinalBitmap[skills.length];
+        for (int i = 0; i < skills.length; i++) {
+            int ordinal = skillOrdinal(skills[i]);
+            if (ordinal < 0) {
+                return new OrdinalBitmap();
+            }
+            sets[i] = bitmaps.get(ordinal);
+        }
+        // Intersecting the smallest sets first keeps intermediate results small
+        Arrays.sort(sets, Comparator.comparingInt(OrdinalBitmap::cardinality));
+        OrdinalBitmap result = sets[0];
+        for (int i = 1; i < sets.length && !result.isEmpty(); i++) {
+            result = result.and(sets[i]);
+        }
+        return result == sets[0] ? result.copy() : result;
+    }
+
+    // Employees holding at least one of the skills
+    public OrdinalBitmap anyOf(String... skills) {
+        OrdinalBitmap result = new OrdinalBitmap();
+        for (String skill : skills) {
+            int ordinal = skillOrdinal(skill);
+            if (ordinal >= 0) {
+                result = result.or(bitmaps.get(ordinal));
+            }
+        }
+        return result;
+    }
+
+    // Employees holding all of the required skills and none of the excluded ones
+    public OrdinalBitmap query(Collection<String> required, Collection<String> excluded) {
+        OrdinalBitmap result = allOf(required.toArray(new String[0]));
+        for (String skill : excluded) {
+            int ordinal = skillOrdinal(skill);
+            if (ordinal >= 0 && !result.isEmpty()) {
+                result = result.andNot(bitmaps.get(ordinal));
+            }
+        }
+        return result;
+    }
+
+    private void index(int employeeOrdinal, String skill) {
+        Integer ordinal = skillOrdinals.get(skill);
+        if (ordinal == null) {
+            ordinal = skills.size();
+            skills.add(skill);
+            skillOrdinals.put(skill, ordinal);
+            bitmaps.add(new OrdinalBitmap());
+        }
+        bitmaps.get(ordinal).add(employeeOrdinal);
+    }
+
+    private final class Binding implements EmployeeListener {
+        private final int ordinal;
+
+        private Binding(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public void skillAdded(Employee employee, String skill) {
+            index(ordinal, skill);
+        }
+    }
+}
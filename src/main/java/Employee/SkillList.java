@@ -0,0 +1,108 @@
+package Employee;
+import java.util.*;
+
+/**
+ * Copy-on-write skills list. {@link #copy()} is O(1): the copy and the original
+ * share one backing array until either of them is modified, at which point the
+ * writer takes a private copy. Not thread-safe, like the rest of {@link Employee}.
+ */
+public class SkillList extends AbstractList<String> implements RandomAccess {
+    private static final String[] EMPTY = new String[0];
+
+    private String[] elements;
+    private int size;
+    // True while the backing array may be visible to another SkillList
+    private boolean shared;
+
+    public SkillList() {
+        this.elements = EMPTY;
+    }
+
+    public SkillList(Collection<String> skills) {
+        this.elements = skills.toArray(new String[0]);
+        this.size = elements.length;
+    }
+
+    // Independent list sharing this one's storage until the first write on either side
+    public SkillList copy() {
+        SkillList copy = new SkillList();
+        if (size > 0) {
+            copy.elements = elements;
+            copy.size = size;
+            copy.shared = true;
+            shared = true;
+        }
+        return copy;
+    }
+
+    @Override
+    public String get(int index) {
+        Objects.checkIndex(index, size);
+        return elements[index];
+    }
+
+    @Override
+    public int size() { return size; }
+
+    @Override
+    public String set(int index, String skill) {
+        Objects.checkIndex(index, size);
+        prepareWrite(size);
+        String previous = elements[index];
+        elements[index] = skill;
+        return previous;
+    }
+
+    @Override
+    public boolean add(String skill) {
+        prepareWrite(size + 1);
+        elements[size++] = skill;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, String skill) {
+        Objects.checkIndex(index, size + 1);
+        prepareWrite(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = skill;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public String remove(int index) {
+        Objects.checkIndex(index, size);
+        prepareWrite(size);
+        String previous = elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            // Dropping a shared array is enough, nothing needs copying
+            elements = EMPTY;
+            shared = false;
+        } else {
+            Arrays.fill(elements, 0, size, null);
+        }
+        size = 0;
+        modCount++;
+    }
+
+    // Ensures the backing array is private to this list and can hold the given size
+    private void prepareWrite(int capacity) {
+        if (capacity > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(capacity, elements.length + (elements.length >> 1)));
+            shared = false;
+        } else if (shared) {
+            elements = elements.clone();
+            shared = false;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package Employee;
+import java.io.IOException;
+
+/**
+ * Withholding calculation for a payroll run, typically a remote call, so
+ * implementations may block. {@link PayrollEngine} calls it once per employee.
+ */
+public interface TaxService {
+    double withholding(Employee employee, double grossPay) throws IOException, InterruptedException;
+
+    // Local stand-in for the real service: a flat rate after a fixed delay per call
+    static TaxService flatRate(double rate, long latencyNanos) {
+        return (employee, grossPay) -> {
+            if (latencyNanos > 0) {
+                Thread.sleep(latencyNanos / 1_000_000, (int) (latencyNanos % 1_000_000));
+            }
+            return grossPay * rate;
+        };
+    }
+}
@@ -0,0 +1,196 @@
+package Employee;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import Department.Department;
+
+/**
+ * Top-k highest-paid queries without sorting the roster. Salaries are read once
+ * as sortable long bits (see {@link RosterSorter#sortableBits}) into bounded
+ * min-heaps of primitive (salary, position) pairs, so selecting k of n costs
+ * O(n log k) and allocates O(k). The per-department query splits the roster into
+ * chunks that build per-department heaps in parallel on a fork-join pool and
+ * merges them.
+ *
+ * Results are highest paid first, ordered like {@link Employee#compareTo}
+ * reversed; equal salaries keep their roster order, so the result is exactly
+ * the first k of a stable descending sort.
+ */
+public class TopEarners {
+    // Below this many employees a task selects sequentially instead of splitting
+    private static final int THRESHOLD = 16384;
+
+    private final ForkJoinPool pool;
+
+    public TopEarners() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public TopEarners(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public <E extends Employee> List<E> highestPaid(List<? extends E> roster, int k) {
+        checkK(k);
+        Object[] items = roster.toArray();
+        Heap heap = new Heap(Math.min(k, items.length));
+        for (int i = 0; i < items.length; i++) {
+            heap.offer(RosterSorter.sortableBits(((Employee) items[i]).getSalary()), i);
+        }
+        return heap.drain(items);
+    }
+
+    // Top k per department (null for employees without one); equal departments are grouped
+    public <E extends Employee> Map<Department, List<E>> highestPaidByDepartment(List<? extends E> roster, int k) {
+        checkK(k);
+        Object[] items = roster.toArray();
+        Map<Department, Heap> heaps = pool.invoke(new SelectTask(items, 0, items.length, k));
+        Map<Department, List<E>> result = new HashMap<>();
+        heaps.forEach((department, heap) -> result.put(department, heap.drain(items)));
+        return result;
+    }
+
+    private static void checkK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must not be negative: " + k);
+        }
+    }
+
+    private static final class SelectTask extends RecursiveTask<Map<Department, Heap>> {
+        private final Object[] items;
+        private final int from;
+        private final int to;
+        private final int k;
+
+        SelectTask(Object[] items, int from, int to, int k) {
+            this.items = items;
+            this.from = from;
+            this.to = to;
+            this.k = k;
+        }
+
+        @Override
+        protected Map<Department, Heap> compute() {
+            if (to - from <= THRESHOLD) {
+                Map<Department, Heap> heaps = new HashMap<>();
+                for (int i = from; i < to; i++) {
+                    Employee employee = (Employee) items[i];
+                    heaps.computeIfAbsent(employee.getDepartment(), department -> new Heap(k))
+                            .offer(RosterSorter.sortableBits(employee.getSalary()), i);
+                }
+                return heaps;
+            }
+            int mid = (from + to) >>> 1;
+            SelectTask right = new SelectTask(items, mid, to, k);
+            right.fork();
+            Map<Department, Heap> heaps = new SelectTask(items, from, mid, k).compute();
+            right.join().forEach((department, heap) -> heaps.merge(department, heap, Heap::absorb));
+            return heaps;
+        }
+    }
+
+    // Bounded min-heap keeping the k best (salary bits, position) pairs; the root is
+    // the worst kept entry, a lower salary or, for equal salaries, a later position.
+    // Storage grows up to k, so a department with few employees stays small.
+    private static final class Heap {
+        private final int capacity;
+        private long[] salaries;
+        private int[] positions;
+        private int size;
+
+        Heap(int capacity) {
+            this.capacity = capacity;
+            this.salaries = new long[Math.min(capacity, 16)];
+            this.positions = new int[salaries.length];
+        }
+
+        void offer(long salary, int position) {
+            if (size < capacity) {
+                if (size == salaries.length) {
+                    int length = (int) Math.min(capacity, 2L * size);
+                    salaries = Arrays.copyOf(salaries, length);
+                    positions = Arrays.copyOf(positions, length);
+                }
+                salaries[size] = salary;
+                positions[size] = position;
+                siftUp(size++);
+            } else if (size > 0 && better(salary, position, salaries[0], positions[0])) {
+                salaries[0] = salary;
+                positions[0] = position;
+                siftDown(0);
+            }
+        }
+
+        Heap absorb(Heap other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.salaries[i], other.positions[i]);
+            }
+            return this;
+        }
+
+        // Empties the heap into a list, best first
+        <E> List<E> drain(Object[] items) {
+            int[] order = new int[size];
+            for (int i = size - 1; i >= 0; i--) {
+                order[i] = positions[0];
+                salaries[0] = salaries[i];
+                positions[0] = positions[i];
+                size = i;
+                siftDown(0);
+            }
+            List<E> result = new ArrayList<>(order.length);
+            for (int position : order) {
+                @SuppressWarnings("unchecked")
+                E employee = (E) items[position];
+                result.add(employee);
+            }
+            return result;
+        }
+
+        private static boolean better(long salary1, int position1, long salary2, int position2) {
+            return salary1 > salary2 || (salary1 == salary2 && position1 < position2);
+        }
+
+        private void siftUp(int i) {
+            long salary = salaries[i];
+            int position = positions[i];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (!better(salaries[parent], positions[parent], salary, position)) {
+                    break;
+                }
+                salaries[i] = salaries[parent];
+                positions[i] = positions[parent];
+                i = parent;
+            }
+            salaries[i] = salary;
+            positions[i] = position;
+        }
+
+        private void siftDown(int i) {
+            if (size == 0) {
+                return;
+            }
+            long salary = salaries[i];
+            int position = positions[i];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && better(salaries[child], positions[child], salaries[child + 1], positions[child + 1])) {
+                    child++;
+                }
+                if (!better(salary, position, salaries[child], positions[child])) {
+                    break;
+                }
+                salaries[i] = salaries[child];
+                positions[i] = positions[child];
+                i = child;
+            }
+            salaries[i] = salary;
+            positions[i] = position;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package Department;
+
+import Employee.Employee;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DepartmentRegistry Interning Tests")
+public class DepartmentRegistryTest {
+    private DepartmentRegistry registry;
+    private Department dept1, dept3;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new DepartmentRegistry();
+        dept1 = new Department("Engineering", "Building A");
+        dept3 = new Department("Engineering", "Building A"); // Same as dept1 but different instance
+    }
+
+    @Test
+    @DisplayName("Value-based equals and hashCode")
+    public void testValueEquality() {
+        assertEquals(dept1, dept3, "Departments with same name and location should be equal");
+        assertEquals(dept1.hashCode(), dept3.hashCode());
+        assertNotEquals(dept1, new Department("Engineering", "Building B"));
+        assertEquals(new Department(null, null), new Department(null, null), "Null fields should be handled");
+        assertNotEquals(dept1, null);
+    }
+
+    @Test
+    @DisplayName("Equal departments intern to one canonical instance with a stable id")
+    public void testInterning() {
+        Department canonical = registry.intern(dept1);
+
+        assertSame(canonical, registry.intern(dept3));
+        assertSame(canonical, registry.intern("Engineering", "Building A"));
+        assertNotSame(dept1, canonical, "Registry should own its canonical instances");
+        assertEquals(0, registry.internId(dept3));
+        assertEquals(1, registry.internId(new Department("Marketing", "Building B")));
+        assertEquals(2, registry.size());
+        assertSame(canonical, registry.get(0));
+    }
+
+    @Test
+    @DisplayName("Mutating a caller's instance does not affect the registry")
+    public void testCallerMutation() {
+        registry.intern(dept1);
+        dept1.setName("Modified");
+
+        assertEquals("Engineering", registry.get(0).getName());
+        assertEquals(-1, registry.idOf(dept1), "Modified department is not registered");
+        assertEquals(0, registry.idOf(dept3));
+    }
+
+    @Test
+    @DisplayName("Canonical departments are read-only")
+    public void testCanonicalReadOnly() {
+        Department canonical = registry.intern(dept1);
+
+        assertThrows(UnsupportedOperationException.class, () -> canonical.setName("Modified"));
+        assertThrows(UnsupportedOperationException.class, () -> canonical.setLocation("Modified"));
+        assertEquals("Engineering", registry.get(0).getName());
+        assertEquals(dept1, canonical, "Canonical and plain instances compare by value");
+        assertEquals(canonical, dept1);
+        assertEquals(dept1.hashCode(), canonical.hashCode());
+
+        Department copy = canonical.clone();
+        copy.setName("Modified");
+        assertEquals("Modified", copy.getName(), "Clones are mutable");
+    }
+
+    @Test
+    @DisplayName("Null departments")
+    public void testNulls() {
+        assertNull(registry.intern((Department) null));
+        assertEquals(-1, registry.internId((Department) null));
+        assertEquals(-1, registry.idOf(null));
+        assertThrows(IndexOutOfBoundsException.class, () -> registry.get(0));
+    }
+
+    @Test
+    @DisplayName("Deep clones can share the canonical department")
+    public void testDeepCloneWithRegistry() {
+        Employee emp1 = new Employee("E001", "John Doe", 75000, dept1);
+        Employee emp4 = new Employee("E003", "Bob Johnson", 75000, dept3);
+        emp1.addSkill("Java");
+
+        Employee clone1 = emp1.deepClone(registry);
+        Employee clone4 = emp4.deepClone(registry);
+
+        assertSame(clone1.getDepartment(), clone4.getDepartment(),
+                "Clones of equal departments should share the canonical instance");
+        assertNotSame(emp1.getDepartment(), clone1.getDepartment());
+        assertNotSame(emp1.getSkills(), clone1.getSkills());
+        assertEquals(emp1.getSkills(), clone1.getSkills());
+        assertNull(new Employee("E999", "Null Test", 1, null).deepClone(registry).getDepartment());
+    }
+}
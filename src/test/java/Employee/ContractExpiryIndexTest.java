@@ -0,0 +1,88 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.time.*;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ContractExpiryIndex Scheduling Tests")
+public class ContractExpiryIndexTest {
+    private static final LocalDate START = LocalDate.of(2030, 1, 1);
+
+    private ContractExpiryIndex index;
+    private Contractor jan1, jan3, jan3b, feb1, openEnded;
+    private List<String> expired;
+
+    @BeforeEach
+    public void setUp() {
+        Department engineering = new Department("Engineering", "Building A");
+        index = new ContractExpiryIndex(Clock.fixed(START.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC));
+        jan1 = new Contractor("C001", "Ends Jan 1", 100, engineering, START);
+        jan3 = new Contractor("C002", "Ends Jan 3", 100, engineering, START.plusDays(2));
+        jan3b = new Contractor("C003", "Also Jan 3", 100, engineering, START.plusDays(2));
+        feb1 = new Contractor("C004", "Ends Feb 1", 100, engineering, START.plusMonths(1));
+        openEnded = new Contractor("C005", "Open ended", 100, engineering, null);
+
+        for (Contractor contractor : List.of(feb1, jan3, jan1, jan3b)) {
+            assertTrue(index.add(contractor));
+        }
+        expired = new ArrayList<>();
+        index.addListener((contractor, today) -> expired.add(contractor.getId() + "@" + today));
+    }
+
+    @Test
+    @DisplayName("Expiring-soon queries use the index date")
+    public void testExpiringWithin() {
+        assertEquals(START, index.today(), "The clock is read on construction");
+        assertEquals(List.of(jan1), index.expiringWithin(1));
+        assertEquals(List.of(jan1, jan3, jan3b), index.expiringWithin(3));
+        assertEquals(4, index.expiringWithin(365).size());
+        assertTrue(index.expiringWithin(0).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.expiringWithin(-1));
+    }
+
+    @Test
+    @DisplayName("Ticks report each contract once, the day after it ends")
+    public void testTicks() {
+        assertEquals(0, index.tick(), "Nothing has ended on the start date itself");
+        assertEquals(0, index.tick(START));
+
+        assertEquals(1, index.tick(START.plusDays(1)));
+        assertEquals(List.of("C001@2030-01-02"), expired);
+
+        assertEquals(2, index.tick(START.plusDays(10)));
+        assertEquals(0, index.tick(START.plusDays(10)));
+        assertEquals(List.of("C001@2030-01-02", "C002@2030-01-11", "C003@2030-01-11"), expired);
+        assertEquals(1, index.size());
+        assertEquals(List.of(feb1), index.expiringWithin(30));
+    }
+
+    @Test
+    @DisplayName("Removal and open-ended contracts")
+    public void testRemoval() {
+        assertFalse(index.add(openEnded));
+        assertFalse(index.remove(openEnded));
+        assertTrue(index.remove(jan3));
+        assertFalse(index.remove(jan3));
+
+        index.tick(START.plusYears(1));
+        assertEquals(List.of("C001@2031-01-01", "C003@2031-01-01", "C004@2031-01-01"), expired);
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    @DisplayName("The index agrees with isContractExpired()")
+    public void testAgreesWithContractor() {
+        LocalDate day = START.plusDays(2);
+        List<Contractor> before = index.expiringWithin(365);
+        index.tick(day);
+
+        for (Contractor contractor : before) {
+            boolean reported = expired.contains(contractor.getId() + "@" + day);
+            assertEquals(contractor.isContractExpired(day), reported, contractor.getId());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Contractor Hours and Derived Salary Tests")
+public class ContractorTest {
+    private Department engineering;
+    private Contractor contractor;
+
+    @BeforeEach
+    public void setUp() {
+        engineering = new Department("Engineering", "Building A");
+        contractor = new Contractor("C001", "Bob Contractor", 150, engineering, LocalDate.of(2030, 1, 1));
+    }
+
+    @Test
+    @DisplayName("Salary is derived from hours and rate")
+    public void testDerivedSalary() {
+        contractor.logHours(40);
+        contractor.logHours(10);
+
+        assertEquals(50, contractor.getHoursWorked());
+        assertEquals(7500, contractor.getSalary());
+        contractor.setHourlyRate(200);
+        assertEquals(10000, contractor.getSalary());
+        assertThrows(UnsupportedOperationException.class, () -> contractor.setSalary(1));
+    }
+
+    @Test
+    @DisplayName("Concurrent logHours loses no hours")
+    public void testConcurrentLogHours() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    contractor.logHours(1);
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertEquals(80_000, contractor.getHoursWorked());
+    }
+
+    @Test
+    @DisplayName("Listeners see every change with the right old salary")
+    public void testListeners() {
+        SalaryIndex index = new SalaryIndex();
+        contractor.logHours(10);
+        index.add(contractor);
+
+        contractor.logHours(30);
+        contractor.setHourlyRate(100);
+
+        assertEquals(1, index.countBetween(4000, 4000));
+        assertEquals(0, index.countBetween(1500, 1500));
+    }
+
+    @Test
+    @DisplayName("Clones keep the hours but count independently")
+    public void testClones() throws CloneNotSupportedException {
+        contractor.logHours(40);
+        Contractor shallow = contractor.clone();
+        Contractor deep = contractor.deepClone();
+        contractor.logHours(8);
+
+        assertEquals(40, shallow.getHoursWorked());
+        assertEquals(40, deep.getHoursWorked());
+        assertNotSame(contractor.getDepartment(), deep.getDepartment());
+    }
+
+    @Test
+    @DisplayName("Expiry and toString")
+    public void testExpiryAndToString() {
+        contractor.logHours(40);
+
+        assertFalse(contractor.isContractExpired(LocalDate.of(2030, 1, 1)));
+        assertTrue(contractor.isContractExpired(LocalDate.of(2030, 1, 2)));
+        assertEquals("Contractor{id='C001', name='Bob Contractor', hourlyRate=150.0, hoursWorked=40, contractEnd=2030-01-01}",
+                contractor.toString());
+    }
+
+    @Test
+    @DisplayName("Open-ended contracts never expire")
+    public void testOpenEndedContract() {
+        Contractor openEnded = new Contractor("C002", "Open Ended", 100, null, null);
+
+        assertFalse(openEnded.isContractExpired(LocalDate.of(2100, 1, 1)));
+        assertFalse(openEnded.isContractExpired());
+    }
+}
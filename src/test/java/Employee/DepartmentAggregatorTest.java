@@ -0,0 +1,109 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DepartmentAggregator Incremental Payroll Tests")
+public class DepartmentAggregatorTest {
+    private DepartmentAggregator aggregator;
+    private Employee emp1, emp3, emp4, emp5;
+    private Department dept1, dept2, dept3;
+
+    @BeforeEach
+    public void setUp() {
+        dept1 = new Department("Engineering", "Building A");
+        dept2 = new Department("Marketing", "Building B");
+        dept3 = new Department("Engineering", "Building A"); // Same as dept1 but different instance
+
+        emp1 = new Employee("E001", "John Doe", 75000, dept1);
+        emp3 = new Employee("E002", "Jane Smith", 80000, dept2);
+        emp4 = new Employee("E003", "Bob Johnson", 75000, dept3);
+        emp5 = new Employee("E004", "Alice Brown", 70000, dept1);
+
+        aggregator = new DepartmentAggregator();
+        aggregator.add(emp1);
+        aggregator.add(emp3);
+        aggregator.add(emp4);
+        aggregator.add(emp5);
+    }
+
+    @Test
+    @DisplayName("Per-department totals group equal departments")
+    public void testInitialTotals() {
+        DepartmentAggregator.Stats engineering = aggregator.stats(dept3);
+
+        assertEquals(3, engineering.getHeadcount());
+        assertEquals(220000, engineering.getTotalSalary());
+        assertEquals(220000 / 3.0, engineering.getAverageSalary(), 1e-9);
+        assertEquals(70000, engineering.getMinSalary());
+        assertEquals(75000, engineering.getMaxSalary());
+        assertEquals(1, aggregator.stats(dept2).getHeadcount());
+        assertEquals(2, aggregator.departments().size());
+    }
+
+    @Test
+    @DisplayName("setSalary() and setDepartment() update the running figures")
+    public void testMutations() {
+        emp5.setSalary(90000);
+        emp3.setDepartment(dept1);
+
+        DepartmentAggregator.Stats engineering = aggregator.stats(dept1);
+        assertEquals(4, engineering.getHeadcount());
+        assertEquals(320000, engineering.getTotalSalary());
+        assertEquals(75000, engineering.getMinSalary());
+        assertEquals(90000, engineering.getMaxSalary());
+
+        DepartmentAggregator.Stats marketing = aggregator.stats(dept2);
+        assertEquals(0, marketing.getHeadcount());
+        assertEquals(0, marketing.getAverageSalary());
+        assertTrue(Double.isNaN(marketing.getMaxSalary()));
+    }
+
+    @Test
+    @DisplayName("Removal stops tracking and subtracts the employee")
+    public void testRemoval() {
+        assertTrue(aggregator.remove(emp4));
+        assertFalse(aggregator.remove(emp4), "Already removed");
+        emp4.setSalary(1_000_000);
+
+        assertEquals(2, aggregator.stats(dept1).getHeadcount());
+        assertEquals(145000, aggregator.stats(dept1).getTotalSalary());
+        assertFalse(aggregator.add(emp1), "Employees are tracked once");
+    }
+
+    @Test
+    @DisplayName("Min and max are recomputed when the current extreme leaves")
+    public void testExtremeLeaves() {
+        aggregator.remove(emp5);
+        assertEquals(75000, aggregator.stats(dept1).getMinSalary(), "Lowest salary removed");
+
+        emp1.setSalary(60000);
+        emp4.setSalary(65000);
+        emp1.setSalary(100000);
+        DepartmentAggregator.Stats engineering = aggregator.stats(dept1);
+        assertEquals(65000, engineering.getMinSalary());
+        assertEquals(100000, engineering.getMaxSalary());
+
+        emp1.setDepartment(dept2);
+        assertEquals(65000, engineering.getMaxSalary(), "Highest salary moved out");
+        assertEquals(1, engineering.getHeadcount());
+        assertEquals(100000, aggregator.stats(dept2).getMaxSalary());
+        assertEquals(80000, aggregator.stats(dept2).getMinSalary());
+    }
+
+    @Test
+    @DisplayName("Null and unknown departments")
+    public void testNullAndUnknownDepartments() {
+        Employee unassigned = new Employee("E999", "Null Test", 50000, null);
+        aggregator.add(unassigned);
+
+        assertEquals(1, aggregator.stats(null).getHeadcount());
+        assertEquals(0, aggregator.stats(new Department("Sales", "Building C")).getHeadcount());
+
+        unassigned.setDepartment(dept2);
+        assertEquals(0, aggregator.stats(null).getHeadcount());
+        assertEquals(2, aggregator.stats(dept2).getHeadcount());
+    }
+}
@@ -0,0 +1,52 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Employee Streaming toString Tests")
+public class EmployeeAppendToTest {
+    private Employee emp1;
+
+    @BeforeEach
+    public void setUp() {
+        emp1 = new Employee("E001", "John Doe", 75000, new Department("Engineering", "Building A"));
+        emp1.addSkill("Java");
+        emp1.addSkill("Python");
+    }
+
+    @Test
+    @DisplayName("toString() is the appendTo() form")
+    public void testToStringFormat() {
+        assertEquals("Employee{id='E001', name='John Doe', salary=75000.0, "
+                        + "department=Department{name='Engineering', location='Building A'}, skills=[Java, Python]}",
+                emp1.toString());
+        assertEquals("Employee{id='null', name='null', salary=0.0, department=null, skills=[]}",
+                new Employee(null, null, 0, null).toString());
+    }
+
+    @Test
+    @DisplayName("Writers and reused buffers receive the same text")
+    public void testStreaming() throws IOException {
+        StringWriter writer = new StringWriter();
+        emp1.appendTo(writer);
+        assertEquals(emp1.toString(), writer.toString());
+
+        StringBuilder buffer = new StringBuilder();
+        emp1.writeTo(buffer).append('\n');
+        new Employee("E002", "Jane", 80000, null).writeTo(buffer);
+        assertTrue(buffer.toString().startsWith(emp1 + "\nEmployee{id='E002'"));
+    }
+
+    @Test
+    @DisplayName("Department streams its toString() form")
+    public void testDepartmentAppendTo() throws IOException {
+        Department department = new Department("Engineering", null);
+        assertEquals(department.toString(), department.appendTo(new StringWriter()).toString());
+        assertEquals("Department{name='Engineering', location='null'}", department.toString());
+    }
+}
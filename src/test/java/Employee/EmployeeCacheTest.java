@@ -0,0 +1,152 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeCache W-TinyLFU Tests")
+public class EmployeeCacheTest {
+    private Map<String, Employee> storage;
+    private Map<String, Integer> loads;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new HashMap<>();
+        loads = new HashMap<>();
+        for (int i = 0; i < 20_000; i++) {
+            storage.put("E" + i, new Employee("E" + i, "Employee " + i, 50000 + i, null));
+        }
+    }
+
+    private EmployeeCache cache(long maximumWeight) {
+        return new EmployeeCache(maximumWeight, id -> {
+            loads.merge(id, 1, Integer::sum);
+            return storage.get(id);
+        });
+    }
+
+    @Test
+    @DisplayName("Misses load once, then hit; metrics follow")
+    public void testHitsAndMisses() {
+        EmployeeCache cache = cache(100);
+
+        Employee first = cache.get("E1");
+        assertSame(storage.get("E1"), first);
+        assertSame(first, cache.get("E1"));
+        assertNull(cache.get("X404"), "Unknown ids are not cached");
+        assertNull(cache.get("X404"));
+
+        assertEquals(1, loads.get("E1"));
+        assertEquals(2, loads.get("X404"));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(3, cache.getMissCount());
+        assertEquals(0.25, cache.hitRate());
+        assertSame(first, cache.getIfPresent("E1"));
+        assertEquals(1, cache.getHitCount(), "getIfPresent is not counted");
+    }
+
+    @Test
+    @DisplayName("Eviction keeps the weighted size, weighted by skills, within the maximum")
+    public void testWeightedEviction() {
+        EmployeeCache cache = cache(50);
+        storage.get("E0").addSkill("Java");
+        storage.get("E0").addSkill("SQL");
+        cache.get("E0");
+        assertEquals(3, cache.weightedSize(), "One plus the number of skills");
+
+        for (int i = 1; i < 1000; i++) {
+            cache.get("E" + i);
+            assertTrue(cache.weightedSize() <= 50, "Weighted size within the maximum");
+        }
+        assertTrue(cache.getEvictionCount() > 0);
+
+        Employee heavy = storage.get("E5000");
+        for (int i = 0; i < 60; i++) {
+            heavy.addSkill("Skill" + i);
+        }
+        assertSame(heavy, cache.get("E5000"));
+        assertNull(cache.getIfPresent("E5000"), "Entries heavier than the cache are not kept");
+    }
+
+    @Test
+    @DisplayName("Salary, department and id changes invalidate; added skills re-weigh")
+    public void testInvalidation() {
+        EmployeeCache cache = cache(100);
+        Employee employee = cache.get("E1");
+        cache.get("E2");
+        cache.get("E3");
+
+        employee.setSalary(1);
+        assertNull(cache.getIfPresent("E1"));
+        cache.get("E1");
+        assertEquals(2, loads.get("E1"), "Invalidated entries are reloaded");
+
+        cache.get("E2").setDepartment(new Department("Sales", "Building C"));
+        assertNull(cache.getIfPresent("E2"));
+
+        Employee renamed = cache.get("E3");
+        renamed.setId("E3-new");
+        assertNull(cache.getIfPresent("E3"));
+        assertEquals(3, cache.getInvalidationCount());
+
+        cache.get("E1").addSkill("Java");
+        assertEquals(2, cache.weightedSize());
+
+        // Dropped entries stop listening
+        renamed.setSalary(2);
+        assertEquals(3, cache.getInvalidationCount());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+        assertEquals(4, cache.getInvalidationCount());
+    }
+
+    @Test
+    @DisplayName("Concurrent misses on one id all get the cached copy")
+    public void testConcurrentLoads() throws Exception {
+        CountDownLatch bothLoading = new CountDownLatch(2);
+        EmployeeCache cache = new EmployeeCache(100, id -> {
+            bothLoading.countDown();
+            try {
+                bothLoading.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // A fresh copy per load, as from a database
+            return new Employee(id, "Loaded", 1, null);
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Employee> first = executor.submit(() -> cache.get("E1"));
+            Future<Employee> second = executor.submit(() -> cache.get("E1"));
+            assertSame(first.get(), second.get(), "The losing load is discarded");
+            assertSame(first.get(), cache.getIfPresent("E1"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Frequently used entries survive a scan of one-off lookups")
+    public void testScanResistance() {
+        EmployeeCache cache = cache(200);
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 100; i++) {
+                cache.get("E" + i);
+            }
+        }
+        for (int i = 1000; i < 20_000; i++) {
+            cache.get("E" + i);
+        }
+        int survivors = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cache.getIfPresent("E" + i) != null) {
+                survivors++;
+            }
+        }
+        assertTrue(survivors >= 95, "Hot entries survive the scan, got " + survivors);
+    }
+}
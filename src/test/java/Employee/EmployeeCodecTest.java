@@ -0,0 +1,161 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeCodec Binary Round-Trip Tests")
+public class EmployeeCodecTest {
+    private Department dept1, dept2;
+    private Employee emp1, emp2, emp3;
+    private Manager manager;
+    private Contractor contractor;
+
+    @BeforeEach
+    public void setUp() {
+        dept1 = new Department("Engineering", "Building A");
+        dept2 = new Department("Marketing", "Building B");
+        emp1 = new Employee("E001", "John Doe", 75000, dept1);
+        emp1.addSkill("Java");
+        emp1.addSkill("Docker");
+        emp2 = new Employee("E002", "Jane Smith", 80000, dept2);
+        emp2.addSkill("Java");
+        emp3 = new Employee("E003", null, -1.5, null);
+        manager = new Manager("M001", "Alice Manager", 100000, new Department("Engineering", "Building A"), 0.2);
+        contractor = new Contractor("C001", "Bob Contractor", 150, dept1, LocalDate.of(2030, 1, 1));
+        contractor.logHours(40);
+        contractor.addSkill("Python");
+    }
+
+    private static void assertSameEmployee(Employee expected, Employee actual) {
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected, actual, "Decoded employee should equal the original");
+        assertEquals(expected.getName(), actual.getName());
+        assertEquals(expected.getSalary(), actual.getSalary());
+        assertEquals(expected.getDepartment(), actual.getDepartment());
+        assertEquals(expected.getSkills(), actual.getSkills());
+    }
+
+    @Test
+    @DisplayName("Round trip keeps every field and subclass")
+    public void testRoundTrip() {
+        List<Employee> roster = List.of(emp1, emp2, emp3, manager, contractor);
+        List<Employee> decoded = EmployeeCodec.decodeAll(EmployeeCodec.encodeAll(roster));
+
+        assertEquals(roster.size(), decoded.size());
+        for (int i = 0; i < roster.size(); i++) {
+            assertSameEmployee(roster.get(i), decoded.get(i));
+        }
+        assertEquals(0.2, ((Manager) decoded.get(3)).getBonusPercentage());
+        Contractor decodedContractor = (Contractor) decoded.get(4);
+        assertEquals(40, decodedContractor.getHoursWorked());
+        assertEquals(150, decodedContractor.getHourlyRate());
+        assertEquals(LocalDate.of(2030, 1, 1), decodedContractor.getContractEndDate());
+    }
+
+    @Test
+    @DisplayName("Decoded employees are independent of the originals")
+    public void testIndependence() {
+        Employee decoded = EmployeeCodec.decodeAll(EmployeeCodec.encodeAll(List.of(emp1))).get(0);
+        decoded.addSkill("Kubernetes");
+        decoded.getDepartment().setName("Changed");
+
+        assertEquals(2, emp1.getSkills().size());
+        assertEquals("Engineering", emp1.getDepartment().getName());
+    }
+
+    @Test
+    @DisplayName("Departments and skills are written once per stream")
+    public void testDictionaryEncoding() {
+        ByteBuffer first = ByteBuffer.allocate(256);
+        ByteBuffer second = ByteBuffer.allocate(256);
+        Employee repeat = new Employee("E001", "John Doe", 75000, new Department("Engineering", "Building A"));
+        repeat.addSkill("Java");
+        repeat.addSkill("Docker");
+        EmployeeCodec.Encoder encoder = new EmployeeCodec.Encoder();
+        encoder.encode(emp1, first);
+        encoder.encode(repeat, second);
+
+        assertTrue(second.position() < first.position() - "EngineeringBuilding AJavaDocker".length(),
+                "Repeated department and skills should be references");
+        List<Employee> decoded = EmployeeCodec.decodeAll(EmployeeCodec.encodeAll(List.of(emp1, manager)));
+        assertEquals(decoded.get(0).getDepartment(), decoded.get(1).getDepartment());
+        assertNotSame(decoded.get(0).getDepartment(), decoded.get(1).getDepartment(),
+                "Each employee gets its own Department");
+        decoded.get(0).getDepartment().setName("Renamed");
+        assertEquals(emp1.getDepartment().getName(), decoded.get(1).getDepartment().getName(),
+                "Renaming one employee's department leaves the others alone");
+    }
+
+    @Test
+    @DisplayName("Null fields, open-ended contracts and non-ASCII text")
+    public void testEdgeValues() {
+        Contractor openEnded = new Contractor(null, "Zoë Ångström 李", 99.5, null, null);
+        openEnded.addSkill(null);
+        openEnded.addSkill("C++ / ☕");
+        Employee decoded = EmployeeCodec.decodeAll(EmployeeCodec.encodeAll(List.of(openEnded))).get(0);
+
+        assertNull(decoded.getId());
+        assertEquals("Zoë Ångström 李", decoded.getName());
+        assertNull(((Contractor) decoded).getContractEndDate());
+        assertEquals(Arrays.asList(null, "C++ / ☕"), decoded.getSkills());
+    }
+
+    @Test
+    @DisplayName("A full buffer leaves the encoder ready to retry")
+    public void testOverflowRetry() {
+        EmployeeCodec.Encoder encoder = new EmployeeCodec.Encoder();
+        ByteBuffer small = ByteBuffer.allocate(20);
+
+        assertThrows(BufferOverflowException.class, () -> encoder.encode(emp1, small));
+        assertEquals(0, small.position());
+
+        ByteBuffer out = ByteBuffer.allocate(256);
+        encoder.encode(emp1, out);
+        encoder.encode(emp2, out);
+        EmployeeCodec.Decoder decoder = new EmployeeCodec.Decoder();
+        out.flip();
+        assertSameEmployee(emp1, decoder.decode(out));
+        assertSameEmployee(emp2, decoder.decode(out));
+    }
+
+    @Test
+    @DisplayName("A partial record leaves the decoder ready to retry")
+    public void testUnderflowRetry() {
+        ByteBuffer full = EmployeeCodec.encodeAll(List.of(emp1, emp2));
+        EmployeeCodec.readVarLong(full);
+        ByteBuffer partial = full.duplicate().limit(full.position() + 10);
+        EmployeeCodec.Decoder decoder = new EmployeeCodec.Decoder();
+
+        assertThrows(BufferUnderflowException.class, () -> decoder.decode(partial));
+        assertEquals(full.position(), partial.position());
+        assertSameEmployee(emp1, decoder.decode(full));
+        assertSameEmployee(emp2, decoder.decode(full));
+    }
+
+    @Test
+    @DisplayName("Standalone department encoding")
+    public void testDepartment() {
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        EmployeeCodec.encodeDepartment(dept1, buffer);
+        EmployeeCodec.encodeDepartment(null, buffer);
+        buffer.flip();
+
+        assertEquals(dept1, EmployeeCodec.decodeDepartment(buffer));
+        assertNull(EmployeeCodec.decodeDepartment(buffer));
+    }
+
+    @Test
+    @DisplayName("Corrupt input is rejected")
+    public void testCorruptInput() {
+        ByteBuffer buffer = ByteBuffer.wrap(new byte[]{9, 1, 1});
+        assertThrows(IllegalArgumentException.class, () -> new EmployeeCodec.Decoder().decode(buffer));
+    }
+}
@@ -0,0 +1,91 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeDirectory Concurrency Tests")
+public class EmployeeDirectoryTest {
+    private EmployeeDirectory directory;
+    private Department dept1, dept2;
+
+    @BeforeEach
+    public void setUp() {
+        directory = new EmployeeDirectory(8);
+        dept1 = new Department("Engineering", "Building A");
+        dept2 = new Department("Marketing", "Building B");
+        for (int i = 0; i < 16; i++) {
+            directory.add(new Employee("E" + i, "Employee " + i, 0, dept1));
+        }
+    }
+
+    @Test
+    @DisplayName("Single-threaded updates and snapshots")
+    public void testBasicOperations() {
+        assertFalse(directory.add(new Employee("E0", "Duplicate", 1, null)), "Duplicate ids are rejected");
+        assertTrue(directory.setSalary("E1", 75000));
+        assertTrue(directory.adjustSalary("E1", s -> s * 2));
+        assertTrue(directory.addSkill("E1", "Java"));
+        assertTrue(directory.setDepartment("E1", dept2));
+        assertFalse(directory.setSalary("E999", 1), "Unknown ids report false");
+
+        Employee snapshot = directory.get("E1");
+        assertEquals(150000, snapshot.getSalary());
+        assertEquals(150000, directory.getSalary("E1"));
+        assertEquals(List.of("Java"), snapshot.getSkills());
+
+        snapshot.setSalary(1);
+        snapshot.addSkill("Hacking");
+        assertEquals(150000, directory.getSalary("E1"), "Snapshots must not write through");
+        assertEquals(List.of("Java"), directory.get("E1").getSkills());
+
+        assertTrue(Double.isNaN(directory.getSalary("E999")));
+        assertNull(directory.get("E999"));
+        assertTrue(directory.remove("E1"));
+        assertEquals(15, directory.size());
+    }
+
+    @Test
+    @DisplayName("Concurrent raises and skill additions are not lost")
+    public void testConcurrentUpdates() throws Exception {
+        int threads = 8;
+        int iterations = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterations; i++) {
+                    String id = "E" + (i % 16);
+                    directory.adjustSalary(id, s -> s + 1);
+                    if (i % 100 == 0) {
+                        directory.addSkill(id, "T" + thread + "-" + i);
+                    }
+                    Employee snapshot = directory.get("E" + ((i + thread) % 16));
+                    assertNotNull(snapshot);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        double total = 0;
+        int skills = 0;
+        for (Employee employee : directory.snapshot()) {
+            total += employee.getSalary();
+            skills += employee.getSkills().size();
+        }
+        assertEquals((double) threads * iterations, total, "Every raise should be applied exactly once");
+        assertEquals(threads * (iterations / 100), skills, "Every skill should be recorded exactly once");
+    }
+}
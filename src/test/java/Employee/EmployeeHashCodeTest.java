@@ -0,0 +1,51 @@
+package Employee;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Employee Cached hashCode Tests")
+public class EmployeeHashCodeTest {
+
+    @Test
+    @DisplayName("setId() invalidates the cached hash")
+    public void testSetIdInvalidatesHash() {
+        Employee emp = new Employee("E999", "John", 75000, null);
+        int before = emp.hashCode();
+
+        emp.setId("E1000");
+
+        assertNotEquals(before, emp.hashCode(), "Hash should follow the new id");
+        assertEquals(new Employee("E1000", null, 0, null).hashCode(), emp.hashCode());
+    }
+
+    @Test
+    @DisplayName("Store views invalidate the cached hash on setId()")
+    public void testViewSetIdInvalidatesHash() {
+        EmployeeStore store = new EmployeeStore();
+        store.add(new Employee("E001", "John", 75000, null));
+        Employee view = store.get(0);
+        view.hashCode();
+
+        view.setId("E002");
+
+        assertEquals(new Employee("E002", null, 0, null).hashCode(), view.hashCode());
+    }
+
+    @Test
+    @DisplayName("Sequential ids spread across hash table buckets")
+    public void testSequentialIdSpread() {
+        int buckets = 1 << 10;
+        int[] counts = new int[buckets];
+        for (int i = 0; i < 100_000; i++) {
+            int h = new Employee(String.format("E%06d", i), null, 0, null).hashCode();
+            counts[(h ^ (h >>> 16)) & (buckets - 1)]++;
+        }
+
+        int max = Arrays.stream(counts).max().orElse(0);
+        assertTrue(max < 2 * 100_000 / buckets,
+                "No bucket should hold more than twice the average, but one held " + max);
+    }
+}
@@ -0,0 +1,90 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeRecord Immutable Value Tests")
+public class EmployeeRecordTest {
+    private Employee emp1;
+    private Department dept1;
+
+    @BeforeEach
+    public void setUp() {
+        dept1 = new Department("Engineering", "Building A");
+        emp1 = new Employee("E001", "John Doe", 75000, dept1);
+        emp1.addSkill("Java");
+        emp1.addSkill("Python");
+        emp1.addSkill("Java");
+    }
+
+    @Test
+    @DisplayName("Conversion to and from Employee")
+    public void testConversion() {
+        EmployeeRecord record = EmployeeRecord.from(emp1);
+
+        assertEquals("E001", record.getId());
+        assertEquals(75000, record.getSalary());
+        assertEquals(dept1, record.getDepartment());
+        assertEquals(List.of("Java", "Python"), new ArrayList<>(record.getSkills()), "Duplicates are dropped");
+
+        Employee back = record.toEmployee();
+        assertEquals(emp1, back);
+        assertEquals("Engineering", back.getDepartment().getName());
+        assertNotSame(dept1, back.getDepartment());
+    }
+
+    @Test
+    @DisplayName("Records are isolated from the source and from callers")
+    public void testImmutability() {
+        EmployeeRecord record = EmployeeRecord.from(emp1);
+        emp1.setSalary(1);
+        emp1.addSkill("Docker");
+        dept1.setName("Modified");
+        record.getDepartment().setLocation("Hacked");
+
+        assertEquals(75000, record.getSalary());
+        assertFalse(record.hasSkill("Docker"));
+        assertEquals("Engineering", record.getDepartmentName());
+        assertEquals("Building A", record.getDepartmentLocation());
+        assertThrows(UnsupportedOperationException.class, () -> record.getSkills().add("Hacking"));
+    }
+
+    @Test
+    @DisplayName("with* methods share unchanged state")
+    public void testWithMethods() {
+        EmployeeRecord record = EmployeeRecord.from(emp1);
+        EmployeeRecord raised = record.withSalary(80000);
+
+        assertEquals(75000, record.getSalary());
+        assertEquals(80000, raised.getSalary());
+        assertSame(record.getSkills(), raised.getSkills(), "Skills should be shared, not copied");
+
+        EmployeeRecord skilled = raised.withSkill("Docker");
+        assertTrue(skilled.hasSkill("Docker"));
+        assertFalse(raised.hasSkill("Docker"));
+        assertSame(skilled, skilled.withSkill("Java"), "Adding a present skill returns the same record");
+
+        EmployeeRecord moved = record.withDepartment(null);
+        assertNull(moved.getDepartment());
+        assertNull(moved.getDepartmentName());
+    }
+
+    @Test
+    @DisplayName("Builder and value equality")
+    public void testBuilderAndEquality() {
+        EmployeeRecord built = EmployeeRecord.builder()
+                .id("E001").name("John Doe").salary(75000).department(dept1)
+                .skill("Java").skill("Python")
+                .build();
+
+        assertEquals(EmployeeRecord.from(emp1), built);
+        assertEquals(EmployeeRecord.from(emp1).hashCode(), built.hashCode());
+        assertNotEquals(built, built.withSalary(1), "Equality covers every field");
+        assertEquals(built, built.toBuilder().build());
+        assertTrue(built.toString().contains("E001"));
+    }
+}
@@ -0,0 +1,236 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeRepository Write-Ahead Log Tests")
+public class EmployeeRepositoryTest {
+    @TempDir
+    Path directory;
+
+    private Department engineering;
+
+    @BeforeEach
+    public void setUp() {
+        engineering = new Department("Engineering", "Building A");
+    }
+
+    private static List<Path> files(Path directory, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    @Test
+    @DisplayName("Puts and removes survive reopening, subclasses included")
+    public void testReopen() throws IOException {
+        Employee employee = new Employee("E001", "John Doe", 50000, engineering);
+        employee.addSkill("Java");
+        Contractor contractor = new Contractor("C001", "Sam", 80, null, LocalDate.of(2030, 1, 1));
+        contractor.logHours(12);
+        try (EmployeeRepository repository = new EmployeeRepository(directory)) {
+            repository.put(employee);
+            repository.put(new Manager("M001", "Jane", 90000, engineering, 0.2));
+            repository.put(contractor);
+            repository.put(new Employee("E002", "Gone", 1, null));
+            assertTrue(repository.remove("E002"));
+            assertFalse(repository.remove("E404"), "Unknown ids are not logged");
+            employee.setSalary(1);
+        }
+
+        try (EmployeeRepository repository = new EmployeeRepository(directory)) {
+            assertEquals(3, repository.size());
+            Employee restored = repository.get("E001");
+            assertEquals(50000, restored.getSalary(), "Changes after put are not persisted");
+            assertEquals(engineering, restored.getDepartment());
+            assertEquals(List.of("Java"), restored.getSkills());
+            assertEquals(0.2, ((Manager) repository.get("M001")).getBonusPercentage());
+            assertEquals(12, ((Contractor) repository.get("C001")).getHoursWorked());
+            assertFalse(repository.contains("E002"));
+            assertNotSame(repository.get("E001"), repository.get("E001"), "get returns copies");
+        }
+    }
+
+    @Test
+    @DisplayName("A batch is forced once, and concurrent writers all land")
+    public void testGroupCommit() throws Exception {
+        try (EmployeeRepository repository = new EmployeeRepository(directory)) {
+            List<Employee> batch = new ArrayList<>();
+            for (int i = 0; i < 100; i++) {
+                batch.add(new Employee("B" + i, "Batch " + i, i, engineering));
+            }
+            repository.putAll(batch);
+            assertEquals(1, repository.getCommitCount());
+
+            List<Thread> writers = new ArrayList<>();
+            List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+            for (int t = 0; t < 4; t++) {
+                int thread = t;
+                Thread writer = new Thread(() -> {
+                    try {
+                        for (int i = 0; i < 250; i++) {
+                            repository.put(new Employee("T" + thread + "-" + i, "Writer", i, null));
+                        }
+                    } catch (Throwable e) {
+                        failures.add(e);
+                    }
+                });
+                writer.start();
+                writers.add(writer);
+            }
+            for (Thread writer : writers) {
+                writer.join();
+            }
+            assertEquals(List.of(), failures);
+            assertTrue(repository.getCommitCount() <= 1001, "At most one force per write");
+        }
+        try (EmployeeRepository repository = new EmployeeRepository(directory)) {
+            assertEquals(1100, repository.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Full segments roll over and checkpoints replace the log before them")
+    public void testCheckpoint() throws IOException {
+        try (EmployeeRepository repository = new EmployeeRepository(directory, 4096, 3)) {
+            for (int i = 0; i < 2000; i++) {
+                repository.put(new Employee("E" + i, "Employee " + i, i, engineering));
+            }
+            for (int i = 0; i < 2000; i += 2) {
+                repository.remove("E" + i);
+            }
+            assertEquals(1, files(directory, ".ckp").size(), "Older snapshots are deleted");
+            assertTrue(files(directory, ".log").size() <= 4, "Checkpointed segments are deleted");
+        }
+        try (EmployeeRepository repository = new EmployeeRepository(directory, 4096, 3)) {
+            assertEquals(1000, repository.size());
+            assertEquals(1999, repository.get("E1999").getSalary());
+            assertNull(repository.get("E1998"));
+            repository.checkpoint();
+            assertEquals(1, files(directory, ".log").size(), "Only the fresh segment remains");
+        }
+        try (EmployeeRepository repository = new EmployeeRepository(directory, 4096, 3)) {
+            assertEquals(1000, repository.size());
+        }
+    }
+
+    @Test
+    @DisplayName("Reopening appends to the last segment instead of starting a new one")
+    public void testReopenReusesSegment() throws IOException {
+        for (int i = 0; i < 20; i++) {
+            try (EmployeeRepository repository = new EmployeeRepository(directory, 4096, 3)) {
+                repository.put(new Employee("E" + i, "Employee " + i, i, engineering));
+            }
+        }
+        assertEquals(1, files(directory, ".log").size(), "One segment for twenty short sessions");
+
+        // Segments left from earlier sessions still bring the checkpoint closer
+        for (int session = 0; session < 4; session++) {
+            try (EmployeeRepository repository = new EmployeeRepository(directory, 4096, 3)) {
+                for (int i = 0; i < 100; i++) {
+                    repository.put(new Employee("S" + session + "-" + i, "Session", i, engineering));
+                }
+            }
+        }
+        assertEquals(1, files(directory, ".ckp").size(), "Checkpointed across sessions");
+        assertTrue(files(directory, ".log").size() <= 3);
+        try (EmployeeRepository repository = new EmployeeRepository(directory, 4096, 3)) {
+            assertEquals(420, repository.size());
+        }
+    }
+
+    @Test
+    @DisplayName("A torn tail is truncated; corruption elsewhere fails the open")
+    public void testRecovery() throws IOException {
+        try (EmployeeRepository repository = new EmployeeRepository(directory)) {
+            repository.put(new Employee("E001", "John", 1, null));
+            repository.put(new Employee("E002", "Jane", 2, null));
+        }
+        Path segment = files(directory, ".log").get(0);
+        long intact = Files.size(segment);
+        // Simulates a crash part way through writing a third record
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0, 0, 0, 40, 1, 2, 3}));
+        }
+
+        // Small segments, so the next put fills the reopened segment and rolls over
+        try (EmployeeRepository repository = new EmployeeRepository(directory, intact + 1, 100)) {
+            assertEquals(2, repository.size());
+            assertEquals(intact, Files.size(segment), "Torn record is truncated");
+            repository.put(new Employee("E003", "Sam", 3, null));
+        }
+        assertEquals(2, files(directory, ".log").size());
+
+        // The first segment is no longer the last one, so a flipped byte there is fatal
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{42}), intact - 1);
+        }
+        assertThrows(IOException.class, () -> new EmployeeRepository(directory));
+    }
+
+    @Test
+    @DisplayName("Closed repositories reject writes")
+    public void testClosed() throws IOException {
+        EmployeeRepository repository = new EmployeeRepository(directory);
+        repository.close();
+        repository.close();
+
+        assertThrows(IllegalStateException.class, () -> repository.put(new Employee("E001", "John", 1, null)));
+        assertThrows(IllegalArgumentException.class, () -> new EmployeeRepository(directory, 0, 1));
+    }
+
+    @Test
+    @DisplayName("Every put racing close() is either logged or rejected untouched")
+    public void testPutRacingClose() throws Exception {
+        EmployeeRepository repository = new EmployeeRepository(directory);
+        Set<String> accepted = ConcurrentHashMap.newKeySet();
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int writer = t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; ; i++) {
+                    String id = "W" + writer + "-" + i;
+                    try {
+                        repository.put(new Employee(id, "Writer", i, null));
+                        accepted.add(id);
+                    } catch (IllegalStateException e) {
+                        return;
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+            });
+            thread.start();
+            writers.add(thread);
+        }
+        Thread.sleep(50);
+        repository.close();
+        for (Thread thread : writers) {
+            thread.join(10_000);
+            assertFalse(thread.isAlive());
+        }
+
+        assertEquals(accepted.size(), repository.size(), "Rejected puts left the state alone");
+        try (EmployeeRepository reopened = new EmployeeRepository(directory)) {
+            assertEquals(accepted.size(), reopened.size(), "Accepted puts were all logged");
+            for (String id : accepted) {
+                assertTrue(reopened.contains(id), id);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeSnapshot Memory-Mapped Format Tests")
+public class EmployeeSnapshotTest {
+    @TempDir
+    Path tempDir;
+
+    private List<Employee> roster;
+
+    @BeforeEach
+    public void setUp() {
+        Department engineering = new Department("Engineering", "Building A");
+        Employee emp1 = new Employee("E002", "Jane Smith", 80000, engineering);
+        emp1.addSkill("Java");
+        emp1.addSkill("Docker");
+        Employee emp2 = new Employee("E001", "Jöhn\nDoe", 75000, new Department("Marketing", "Building B"));
+        emp2.addSkill("Analytics");
+        Employee emp3 = new Employee("E003", null, 70000, null);
+
+        roster = List.of(emp1, emp2, emp3);
+    }
+
+    @Test
+    @DisplayName("Round trip serves lookups from the mapping")
+    public void testRoundTrip() throws IOException {
+        Path file = tempDir.resolve("roster.snap");
+        EmployeeSnapshot.write(file, roster);
+
+        try (EmployeeSnapshot snapshot = EmployeeSnapshot.open(file)) {
+            assertEquals(3, snapshot.size());
+            assertEquals(80000, snapshot.getSalary(0));
+            assertEquals("Engineering", snapshot.getDepartment(0).getName());
+            Department department = snapshot.getDepartment(0);
+            assertNotSame(department, snapshot.getDepartment(0), "Each call gets its own Department");
+            department.setName("Renamed");
+            assertEquals("Engineering", snapshot.getDepartment(0).getName(), "Changing a copy leaves the snapshot alone");
+            assertNull(snapshot.getDepartment(2), "Null department should remain null");
+            assertEquals("Jöhn\nDoe", snapshot.getName(1), "Non-ASCII and control characters should survive");
+            assertNull(snapshot.getName(2), "Null name should remain null");
+            assertEquals(List.of("Java", "Docker"), snapshot.getSkills(0));
+            assertTrue(snapshot.hasSkill(1, "Analytics"));
+            assertFalse(snapshot.hasSkill(1, "Java"));
+        }
+    }
+
+    @Test
+    @DisplayName("Lookup by id and read-only views")
+    public void testFindById() throws IOException {
+        Path file = tempDir.resolve("roster.snap");
+        EmployeeSnapshot.write(file, roster);
+
+        try (EmployeeSnapshot snapshot = EmployeeSnapshot.open(file)) {
+            Employee view = snapshot.find("E001");
+            assertNotNull(view);
+            assertEquals(75000, view.getSalary());
+            assertEquals("Marketing", view.getDepartment().getName());
+            assertNull(snapshot.find("E999"));
+            assertThrows(UnsupportedOperationException.class, () -> view.setSalary(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid files and closed snapshots are rejected")
+    public void testErrors() throws IOException {
+        Path file = tempDir.resolve("garbage.snap");
+        Files.write(file, new byte[128]);
+        assertThrows(IOException.class, () -> EmployeeSnapshot.open(file));
+
+        Path good = tempDir.resolve("roster.snap");
+        EmployeeSnapshot.write(good, roster);
+        EmployeeSnapshot snapshot = EmployeeSnapshot.open(good);
+        snapshot.close();
+        assertThrows(IllegalStateException.class, () -> snapshot.getSalary(0));
+    }
+}
@@ -0,0 +1,168 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("EmployeeStore Columnar Storage Tests")
+public class EmployeeStoreTest {
+    private EmployeeStore store;
+    private Department engineering, marketing;
+
+    @BeforeEach
+    public void setUp() {
+        engineering = new Department("Engineering", "Building A");
+        marketing = new Department("Marketing", "Building B");
+        store = new EmployeeStore(2);
+
+        Employee emp1 = new Employee("E001", "John Doe", 75000, engineering);
+        emp1.addSkill("Java");
+        emp1.addSkill("Docker");
+        Employee emp2 = new Employee("E002", "Jane Smith", 80000, marketing);
+        emp2.addSkill("Analytics");
+        Employee emp3 = new Employee("E003", "Bob Johnson", 70000, new Department("Engineering", "Building A"));
+        Employee emp4 = new Employee("E004", "No Dept", 50000, null);
+
+        store.add(emp1);
+        store.add(emp2);
+        store.add(emp3);
+        store.add(emp4);
+    }
+
+    @Test
+    @DisplayName("Flyweight views expose stored fields")
+    public void testFlyweightView() {
+        Employee view = store.find("E001");
+
+        assertNotNull(view, "Stored employee should be found by id");
+        assertEquals("E001", view.getId());
+        assertEquals("John Doe", view.getName());
+        assertEquals(75000, view.getSalary());
+        assertEquals("Engineering", view.getDepartment().getName());
+        assertEquals(List.of("Java", "Docker"), view.getSkills());
+        assertNull(store.find("E999"), "Unknown id should return null");
+    }
+
+    @Test
+    @DisplayName("Writes through a view update the columns")
+    public void testWriteThrough() {
+        Employee view = store.get(store.rowOf("E002"));
+        view.setSalary(90000);
+        view.addSkill("Java");
+        view.setDepartment(engineering);
+        view.setId("E200");
+
+        assertEquals(90000, store.salary(store.rowOf("E200")));
+        assertEquals(-1, store.rowOf("E002"), "Old id should be released");
+        assertTrue(store.hasSkill(store.rowOf("E200"), "Java"));
+        assertSame(store.department(0), store.department(store.rowOf("E200")),
+                "Department should be dictionary-encoded to one instance");
+    }
+
+    @Test
+    @DisplayName("Equal departments share one dictionary code")
+    public void testDepartmentDictionary() {
+        assertEquals(2, store.departments().size(),
+                "Engineering instances with the same name and location should share a code");
+        assertEquals(-1, store.departmentCode(null));
+        assertEquals(-2, store.departmentCode(new Department("Sales", "Building C")));
+    }
+
+    @Test
+    @DisplayName("Salary scans and department filters")
+    public void testScans() {
+        assertEquals(275000, store.totalSalary());
+        assertEquals(145000, store.totalSalary(new Department("Engineering", "Building A")));
+        assertEquals(50000, store.totalSalary(null));
+        assertArrayEquals(new int[]{0, 2}, store.rowsInDepartment(engineering));
+        assertArrayEquals(new int[]{0, 2}, store.rowsWithSalaryBetween(70000, 75000));
+        assertEquals(0, store.rowsInDepartment(new Department("Sales", "Building C")).length);
+    }
+
+    @Test
+    @DisplayName("Skill bitsets grow past 64 distinct skills")
+    public void testManySkills() {
+        Employee emp = new Employee("E100", "Many Skills", 60000, engineering);
+        for (int i = 0; i < 200; i++) {
+            emp.addSkill("Skill" + i);
+        }
+        int row = store.add(emp);
+
+        assertEquals(200, store.skills(row).size());
+        assertTrue(store.hasSkill(row, "Skill199"));
+        assertTrue(store.hasSkill(0, "Java"), "Existing rows should survive restriding");
+        assertFalse(store.hasSkill(0, "Skill5"));
+    }
+
+    @Test
+    @DisplayName("Rows notify listeners whichever view changes them")
+    public void testRowListeners() {
+        SalaryIndex index = new SalaryIndex();
+        Employee row = store.find("E002");
+        int ordinal = index.add(row);
+        assertSame(row, store.find("E002"), "Observed rows keep their view");
+
+        store.get(store.rowOf("E002")).setName("Jane Doe");
+        store.find("E002").setSalary(95000);
+        assertEquals("Jane Doe", index.employee(ordinal).getName());
+        assertEquals(95000, index.salaryAt(index.size() - 1), "Raise reached the index");
+        assertEquals(0, index.countBetween(80000, 80000));
+        assertArrayEquals(new int[]{ordinal}, index.between(90000, 100000));
+
+        List<String> events = new ArrayList<>();
+        EmployeeListener listener = new EmployeeListener() {
+            @Override
+            public void nameChanged(Employee employee, String oldName) {
+                events.add(oldName + "->" + employee.getName());
+            }
+
+            @Override
+            public void departmentChanged(Employee employee, Department oldDepartment) {
+                events.add(oldDepartment.getName() + "->" + employee.getDepartment().getName());
+            }
+        };
+        Employee other = store.get(0);
+        other.addListener(listener);
+        store.get(0).setName("John Q Doe");
+        store.get(0).setDepartment(marketing);
+        other.removeListener(listener);
+        store.get(0).setName("John Doe");
+        assertEquals(List.of("John Doe->John Q Doe", "Engineering->Marketing"), events);
+        assertNotSame(other, store.get(0), "Rows without listeners go back to fresh views");
+    }
+
+    @Test
+    @DisplayName("Id lookups survive growth and renames")
+    public void testIdIndex() {
+        EmployeeStore large = new EmployeeStore(1);
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i, large.add(new Employee("E" + i, "Emp" + i, i, null)));
+        }
+        Random random = new Random(3);
+        for (int i = 0; i < 2000; i++) {
+            int row = random.nextInt(large.size());
+            large.get(row).setId("R" + i);
+        }
+        for (int row = 0; row < large.size(); row++) {
+            String id = large.get(row).getId();
+            assertEquals(row, large.rowOf(id), id);
+            if (id.startsWith("R")) {
+                assertEquals(-1, large.rowOf("E" + row), "Old id is gone");
+            }
+        }
+        assertEquals(-1, large.rowOf("missing"));
+        assertEquals(-1, large.rowOf(null));
+        assertThrows(IllegalArgumentException.class, () -> large.get(0).setId(large.get(1).getId()));
+    }
+
+    @Test
+    @DisplayName("Duplicate ids and bad rows are rejected")
+    public void testErrors() {
+        assertThrows(IllegalArgumentException.class,
+                () -> store.add(new Employee("E001", "Copy", 1, null)));
+        assertThrows(IndexOutOfBoundsException.class, () -> store.get(store.size()));
+    }
+}
@@ -2,9 +2,7 @@ package Employee;
 
 import Department.Department;
 import org.junit.jupiter.api.*;
-import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
-import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -524,26 +522,6 @@ public class EmployeeTest {
                 assertNotNull(cloned.getSkills(), "Skills list should not be null");
             }, "Deep clone should handle null department gracefully");
         }
-
-        @ParameterizedTest
-        @DisplayName("5.11 Clone Performance - Multiple cloning operations")
-        @ValueSource(ints = {10, 50, 100})
-        public void testCloningPerformance(int iterations) throws CloneNotSupportedException {
-            long shallowStart = System.nanoTime();
-            for (int i = 0; i < iterations; i++) {
-                emp1.clone();
-            }
-            long shallowTime = System.nanoTime() - shallowStart;
-
-            long deepStart = System.nanoTime();
-            for (int i = 0; i < iterations; i++) {
-                emp1.deepClone();
-            }
-            long deepTime = System.nanoTime() - deepStart;
-
-            assertTrue(deepTime > shallowTime,
-                    "Deep cloning should generally take more time than shallow cloning due to object creation");
-        }
     }
 
     @Nested
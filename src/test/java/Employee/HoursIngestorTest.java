@@ -0,0 +1,124 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("HoursIngestor Batched Ingestion Tests")
+public class HoursIngestorTest {
+    private List<Contractor> contractors;
+
+    @BeforeEach
+    public void setUp() {
+        Department engineering = new Department("Engineering", "Building A");
+        contractors = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            contractors.add(new Contractor("C" + i, "Contractor " + i, 100, engineering, LocalDate.of(2030, 1, 1)));
+        }
+    }
+
+    @Test
+    @DisplayName("Hours are handed over once per batch")
+    public void testBatching() {
+        Contractor contractor = contractors.get(0);
+        List<Double> oldSalaries = new ArrayList<>();
+        contractor.addListener(new EmployeeListener() {
+            @Override
+            public void salaryChanged(Employee employee, double oldSalary) {
+                oldSalaries.add(oldSalary);
+            }
+        });
+
+        try (HoursIngestor ingestor = new HoursIngestor(10)) {
+            for (int i = 0; i < 25; i++) {
+                ingestor.record(contractor, 2);
+            }
+            assertEquals(40, contractor.getHoursWorked(), "Unflushed hours are not visible yet");
+            assertEquals(List.of(0.0, 2000.0), oldSalaries, "One salary change per batch");
+        }
+        assertEquals(50, contractor.getHoursWorked(), "close() flushes the remainder");
+    }
+
+    @Test
+    @DisplayName("Concurrent recording loses no hours")
+    public void testConcurrentRecording() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try (HoursIngestor ingestor = HoursIngestor.withFlushInterval(64, 1, TimeUnit.MILLISECONDS)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ingestor.record(contractors.get(i % contractors.size()), 1);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            ingestor.flush();
+            assertEquals(80_000, ingestor.getEventCount());
+        } finally {
+            executor.shutdown();
+        }
+
+        long total = 0;
+        for (Contractor contractor : contractors) {
+            assertEquals(1600, contractor.getHoursWorked());
+            total += contractor.getHoursWorked();
+        }
+        assertEquals(80_000, total);
+    }
+
+    @Test
+    @DisplayName("The background flusher drains idle buffers")
+    public void testPeriodicFlush() throws InterruptedException {
+        Contractor contractor = contractors.get(0);
+        try (HoursIngestor ingestor = HoursIngestor.withFlushInterval(1000, 5, TimeUnit.MILLISECONDS)) {
+            ingestor.record(contractor, 8);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (contractor.getHoursWorked() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            assertEquals(8, contractor.getHoursWorked());
+            assertTrue(ingestor.getFlushCount() >= 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Hours recorded after close() are rejected")
+    public void testRecordAfterClose() {
+        HoursIngestor ingestor = new HoursIngestor(10);
+        ingestor.record(contractors.get(0), 3);
+        ingestor.close();
+        assertThrows(IllegalStateException.class, () -> ingestor.record(contractors.get(0), 5));
+        assertEquals(3, contractors.get(0).getHoursWorked());
+    }
+
+    @Test
+    @DisplayName("Buffers of dead threads are dropped once flushed")
+    public void testDeadThreadBuffers() throws InterruptedException {
+        try (HoursIngestor ingestor = new HoursIngestor(1000)) {
+            for (int t = 0; t < 5; t++) {
+                Thread thread = new Thread(() -> ingestor.record(contractors.get(0), 2));
+                thread.start();
+                thread.join();
+            }
+            assertEquals(5, ingestor.bufferCount());
+            ingestor.flush();
+            assertEquals(0, ingestor.bufferCount(), "Dead threads' buffers are released");
+            assertEquals(10, contractors.get(0).getHoursWorked(), "Their hours were flushed first");
+            assertEquals(5, ingestor.getEventCount(), "Their events still count");
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid batch size")
+    public void testInvalidBatchSize() {
+        assertThrows(IllegalArgumentException.class, () -> new HoursIngestor(0));
+    }
+}
@@ -0,0 +1,198 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MutationJournal Change Capture Tests")
+public class MutationJournalTest {
+    private MutationJournal journal;
+    private Department engineering;
+    private Employee employee;
+
+    @BeforeEach
+    public void setUp() {
+        journal = new MutationJournal(8);
+        engineering = new Department("Engineering", "Building A");
+        employee = new Employee("E001", "John Doe", 50000, engineering);
+        journal.track(employee);
+        journal.track(engineering);
+    }
+
+    @Test
+    @DisplayName("Setters on tracked objects record field-level events in order")
+    public void testRecordsEvents() {
+        MutationJournal.Cursor cursor = journal.cursor();
+        Department marketing = new Department("Marketing", "Building B");
+        employee.setSalary(55000);
+        employee.setName("John Smith");
+        employee.setDepartment(marketing);
+        employee.addSkill("Java");
+        engineering.setLocation("Annex");
+
+        List<String> seen = new ArrayList<>();
+        List<Boolean> ends = new ArrayList<>();
+        int count = cursor.poll((event, endOfBatch) -> {
+            seen.add(event.getSequence() + ":" + event.getKind());
+            ends.add(endOfBatch);
+            switch (event.getKind()) {
+                case SALARY -> {
+                    assertEquals(50000, event.getOldSalary());
+                    assertEquals(55000, event.getNewSalary());
+                    assertSame(employee, event.getEmployee());
+                }
+                case NAME -> assertEquals(List.of("John Doe", "John Smith"), List.of(event.getOldValue(), event.getNewValue()));
+                case DEPARTMENT -> {
+                    assertSame(engineering, event.getOldValue());
+                    assertSame(marketing, event.getNewValue());
+                }
+                case SKILL_ADDED -> assertEquals("Java", event.getNewValue());
+                case DEPARTMENT_LOCATION -> {
+                    assertNull(event.getEmployee());
+                    assertSame(engineering, event.getDepartment());
+                    assertEquals("Building A", event.getOldValue());
+                }
+                default -> fail("Unexpected event " + event);
+            }
+        });
+
+        assertEquals(5, count);
+        assertEquals(List.of("0:SALARY", "1:NAME", "2:DEPARTMENT", "3:SKILL_ADDED", "4:DEPARTMENT_LOCATION"), seen);
+        assertEquals(List.of(false, false, false, false, true), ends, "Only the last event ends the batch");
+        assertEquals(4, cursor.getSequence());
+        assertEquals(0, cursor.poll((event, endOfBatch) -> fail("Nothing new to consume")));
+    }
+
+    @Test
+    @DisplayName("Untracked objects and clones are not recorded")
+    public void testUntrack() throws CloneNotSupportedException {
+        employee.clone().setSalary(2);
+        engineering.clone().setName("Clone");
+        journal.untrack(employee);
+        journal.untrack(engineering);
+        employee.setSalary(1);
+        engineering.setName("R&D");
+
+        assertEquals(-1, journal.publishedSequence());
+    }
+
+    @Test
+    @DisplayName("Cursors gate a concurrent writer and each see every event once")
+    public void testConcurrentReaders() throws Exception {
+        int events = 100_000;
+        MutationJournal.Cursor first = journal.cursor();
+        MutationJournal.Cursor second = journal.cursor();
+        double[] sums = new double[2];
+        List<Thread> readers = new ArrayList<>();
+        MutationJournal.Cursor[] cursors = {first, second};
+        for (int r = 0; r < 2; r++) {
+            int index = r;
+            long[] expected = {0};
+            Thread reader = new Thread(() -> {
+                while (cursors[index].getSequence() < events - 1) {
+                    cursors[index].poll((event, endOfBatch) -> {
+                        assertEquals(expected[0]++, event.getSequence(), "Events arrive in sequence");
+                        sums[index] += event.getNewSalary();
+                    });
+                    Thread.onSpinWait();
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+        for (int i = 1; i <= events; i++) {
+            employee.setSalary(i);
+        }
+        for (Thread reader : readers) {
+            reader.join(10_000);
+            assertFalse(reader.isAlive(), "Reader finished");
+        }
+
+        double expectedSum = (double) events * (events + 1) / 2;
+        assertEquals(expectedSum, sums[0]);
+        assertEquals(expectedSum, sums[1]);
+        first.close();
+        second.close();
+    }
+
+    @Test
+    @DisplayName("Hours logged from many threads get dense, unique sequences")
+    public void testConcurrentWriters() throws Exception {
+        int threads = 4;
+        int calls = 20_000;
+        Contractor[] contractors = {
+                new Contractor("C001", "First", 10, engineering, null),
+                new Contractor("C002", "Second", 20, engineering, null)};
+        for (Contractor contractor : contractors) {
+            journal.track(contractor);
+        }
+        MutationJournal.Cursor cursor = journal.cursor();
+        int events = threads * calls;
+        long[] next = {0};
+        Map<Employee, Integer> perContractor = new HashMap<>();
+        Thread reader = new Thread(() -> {
+            while (cursor.getSequence() < events - 1) {
+                cursor.poll((event, endOfBatch) -> {
+                    assertEquals(next[0]++, event.getSequence(), "No gaps or repeats");
+                    assertEquals(((Contractor) event.getEmployee()).getHourlyRate(),
+                            event.getNewSalary() - event.getOldSalary(), 1e-9, "Each event is one more hour");
+                    perContractor.merge(event.getEmployee(), 1, Integer::sum);
+                });
+                Thread.onSpinWait();
+            }
+        });
+        reader.start();
+        List<Thread> writers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Contractor contractor = contractors[t % contractors.length];
+            Thread writer = new Thread(() -> {
+                for (int i = 0; i < calls; i++) {
+                    contractor.logHours(1);
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+        for (Thread writer : writers) {
+            writer.join(30_000);
+        }
+        reader.join(30_000);
+        assertFalse(reader.isAlive(), "Reader saw every event");
+
+        assertEquals(events, next[0]);
+        assertEquals(events - 1, journal.publishedSequence());
+        assertEquals(threads / 2 * calls, perContractor.get(contractors[0]));
+        assertEquals(threads / 2 * calls, perContractor.get(contractors[1]));
+        cursor.close();
+    }
+
+    @Test
+    @DisplayName("Replay rebuilds a derived index from the retained events")
+    public void testReplay() {
+        Map<Employee, Double> salaries = new HashMap<>();
+        employee.setSalary(60000);
+        employee.setSalary(70000);
+        employee.setName("Johnny");
+
+        int replayed = journal.replay(0, (event, endOfBatch) -> {
+            if (event.getKind() == MutationJournal.Kind.SALARY) {
+                salaries.put(event.getEmployee(), event.getNewSalary());
+            }
+        });
+
+        assertEquals(3, replayed);
+        assertEquals(70000, salaries.get(employee));
+
+        // No cursors, so the ring keeps only the latest capacity events
+        for (int i = 0; i < 10; i++) {
+            employee.setSalary(i);
+        }
+        assertEquals(8, journal.capacity());
+        assertEquals(5, journal.firstAvailableSequence());
+        assertThrows(IllegalArgumentException.class, () -> journal.replay(0, (event, endOfBatch) -> { }));
+        assertEquals(8, journal.replay(5, (event, endOfBatch) -> { }));
+    }
+}
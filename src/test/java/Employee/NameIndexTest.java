@@ -0,0 +1,102 @@
+package Employee;
+
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("NameIndex Prefix and Case-Insensitive Lookup Tests")
+public class NameIndexTest {
+    private NameIndex index;
+    private List<Employee> roster;
+
+    @BeforeEach
+    public void setUp() {
+        index = new NameIndex();
+        roster = new ArrayList<>();
+        String[] names = {"John Doe", "john smith", "Johanna", "JOHNNY", "Jane", "Zoë", "Zoe\u0308 Decomposed",
+                "John\nDoe\t\r\\\"'", "", null, "Straße", "O'Brien"};
+        for (String name : names) {
+            Employee employee = new Employee("E" + roster.size(), name, 50000, null);
+            roster.add(employee);
+            assertEquals(roster.size() - 1, index.add(employee), "Ordinals follow insertion order");
+        }
+    }
+
+    private static int[] ordinals(OrdinalBitmap bitmap) {
+        return bitmap.toArray();
+    }
+
+    @Test
+    @DisplayName("Prefix lookup ignores case and Unicode composition")
+    public void testPrefix() {
+        assertArrayEquals(new int[]{0, 1, 3, 7}, ordinals(index.withPrefix("john")));
+        assertArrayEquals(new int[]{0, 1, 2, 3, 7}, ordinals(index.withPrefix("JOH")));
+        assertArrayEquals(new int[]{5, 6}, ordinals(index.withPrefix("zoë")), "Composed and decomposed forms match");
+        assertArrayEquals(new int[]{10}, ordinals(index.withPrefix("STRASS")), "ß folds to ss");
+        assertArrayEquals(new int[]{11}, ordinals(index.withPrefix("o'b")));
+        assertEquals(11, index.withPrefix("").cardinality(), "Empty prefix matches every non-null name");
+        assertTrue(index.withPrefix("x").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.withPrefix(null));
+    }
+
+    @Test
+    @DisplayName("Exact and case-insensitive lookup handle special characters and nulls")
+    public void testExact() {
+        String special = "John\nDoe\t\r\\\"'";
+        assertArrayEquals(new int[]{7}, ordinals(index.named(special)));
+        assertArrayEquals(new int[]{7}, ordinals(index.withPrefix("john\n")));
+        assertArrayEquals(new int[]{3}, ordinals(index.named("JOHNNY")));
+        assertTrue(index.named("johnny").isEmpty(), "Exact lookup is case-sensitive");
+        assertArrayEquals(new int[]{3}, ordinals(index.namedIgnoreCase("johnny")));
+        assertArrayEquals(new int[]{8}, ordinals(index.named("")));
+        assertArrayEquals(new int[]{9}, ordinals(index.named(null)));
+        assertSame(roster.get(3), index.employees(index.named("JOHNNY")).get(0));
+    }
+
+    @Test
+    @DisplayName("setName keeps the index current, before and after merges")
+    public void testRenames() {
+        roster.get(0).setName("Alice");
+        roster.get(9).setName("alice cooper");
+        roster.get(3).setName(null);
+
+        assertArrayEquals(new int[]{0, 9}, ordinals(index.withPrefix("ALI")));
+        assertArrayEquals(new int[]{1, 7}, ordinals(index.withPrefix("john")));
+        assertArrayEquals(new int[]{3}, ordinals(index.named(null)));
+
+        // Enough renames to force merges of the pending entries
+        for (int round = 0; round < 200; round++) {
+            roster.get(1).setName("Name " + round);
+        }
+        roster.get(1).setName("john smith");
+        assertArrayEquals(new int[]{1, 7}, ordinals(index.withPrefix("john")));
+        assertTrue(index.withPrefix("name ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("Prefix lookup matches a linear scan on a large roster")
+    public void testMatchesLinearScan() {
+        NameIndex large = new NameIndex();
+        List<Employee> employees = new ArrayList<>();
+        Random random = new Random(5);
+        for (int i = 0; i < 20_000; i++) {
+            Employee employee = new Employee("E" + i, "Name" + random.nextInt(5000), 1, null);
+            employees.add(employee);
+            large.add(employee);
+        }
+        for (int i = 0; i < 2_000; i++) {
+            employees.get(random.nextInt(employees.size())).setName("name" + random.nextInt(5000));
+        }
+        for (String prefix : new String[]{"name1", "NAME12", "name499", "name"}) {
+            OrdinalBitmap expected = new OrdinalBitmap();
+            for (int i = 0; i < employees.size(); i++) {
+                if (employees.get(i).getName().toLowerCase(Locale.ROOT).startsWith(prefix.toLowerCase(Locale.ROOT))) {
+                    expected.add(i);
+                }
+            }
+            assertEquals(expected, large.withPrefix(prefix), "Prefix " + prefix);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("OrgChart and Manager Hierarchy Tests")
+public class OrgChartTest {
+    private Department engineering;
+    private Manager vp, director, lead;
+    private Employee dev1, dev2, analyst;
+
+    @BeforeEach
+    public void setUp() {
+        engineering = new Department("Engineering", "Building A");
+        vp = new Manager("M001", "Vera VP", 200000, engineering, 0.3);
+        director = new Manager("M002", "Dan Director", 150000, engineering, 0.2);
+        lead = new Manager("M003", "Lee Lead", 120000, engineering, 0.1);
+        dev1 = new Employee("E001", "John Doe", 75000, engineering);
+        dev2 = new Employee("E002", "Jane Smith", 80000, engineering);
+        analyst = new Employee("E003", "Bob Johnson", 70000, engineering);
+
+        // Built bottom-up: each addDirectReport of a manager merges their team
+        lead.addDirectReport(dev1);
+        lead.addDirectReport(dev2);
+        director.addDirectReport(lead);
+        director.addDirectReport(analyst);
+        vp.addDirectReport(director);
+    }
+
+    @Test
+    @DisplayName("Teams built bottom-up end up in one chart")
+    public void testMergedCharts() {
+        OrgChart chart = vp.getOrgChart();
+
+        assertSame(chart, director.getOrgChart());
+        assertSame(chart, lead.getOrgChart());
+        assertEquals(6, chart.size());
+        assertEquals(List.of(director), vp.getDirectReports());
+        assertEquals(List.of(lead, analyst), director.getDirectReports());
+        assertSame(director, chart.managerOf(lead));
+        assertNull(chart.managerOf(vp));
+    }
+
+    @Test
+    @DisplayName("Transitive reports, depth and ancestry")
+    public void testTransitiveQueries() {
+        OrgChart chart = vp.getOrgChart();
+
+        assertEquals(List.of(director, lead, dev1, dev2, analyst), vp.getAllReports());
+        assertEquals(5, vp.getReportCount());
+        assertEquals(2, lead.getReportCount());
+        assertEquals(0, chart.reportCount(dev1));
+        assertEquals(0, chart.depth(vp));
+        assertEquals(3, chart.depth(dev2));
+        assertTrue(chart.isUnder(dev1, vp));
+        assertFalse(chart.isUnder(analyst, lead));
+        assertFalse(chart.isUnder(vp, vp), "Nobody reports to themselves");
+        assertThrows(UnsupportedOperationException.class, () -> vp.getAllReports().clear());
+    }
+
+    @Test
+    @DisplayName("Team salary totals follow setSalary()")
+    public void testTeamSalary() {
+        assertEquals(695000, vp.getTeamSalary());
+        assertEquals(275000, lead.getTeamSalary());
+
+        dev1.setSalary(85000);
+        assertEquals(285000, lead.getTeamSalary());
+        assertEquals(705000, vp.getTeamSalary());
+        assertEquals(70000, vp.getOrgChart().teamSalary(analyst));
+    }
+
+    @Test
+    @DisplayName("Moves and removals restructure the tree")
+    public void testRestructuring() {
+        OrgChart chart = vp.getOrgChart();
+        chart.add(lead, vp);
+
+        assertEquals(List.of(director, lead), vp.getDirectReports());
+        assertEquals(List.of(analyst), director.getAllReports());
+        assertEquals(275000, lead.getTeamSalary());
+
+        assertTrue(chart.remove(lead));
+        assertFalse(chart.remove(lead));
+        assertNull(lead.getOrgChart());
+        assertEquals(List.of(director, dev1, dev2), vp.getDirectReports(),
+                "Reports of a removed manager move up a level");
+        assertEquals(1, chart.depth(dev1));
+        assertThrows(IllegalArgumentException.class, () -> chart.depth(lead));
+    }
+
+    @Test
+    @DisplayName("Cycles are rejected")
+    public void testCycles() {
+        OrgChart chart = vp.getOrgChart();
+
+        assertThrows(IllegalArgumentException.class, () -> chart.add(vp, dev1));
+        assertThrows(IllegalArgumentException.class, () -> chart.add(director, director));
+        assertEquals(5, vp.getReportCount(), "A rejected move leaves the chart unchanged");
+    }
+
+    @Test
+    @DisplayName("Clones and toString")
+    public void testClonesAndToString() throws CloneNotSupportedException {
+        Manager copy = director.deepClone();
+
+        assertNull(copy.getOrgChart(), "Reports are not cloned");
+        assertTrue(copy.getDirectReports().isEmpty());
+        assertNull(director.clone().getOrgChart());
+        assertEquals(0.2, copy.getBonusPercentage());
+        assertEquals("Manager{id='M002', name='Dan Director', salary=150000.0, totalComp=180000.0, reports=2}",
+                director.toString());
+    }
+
+    @Test
+    @DisplayName("Deep hierarchies do not overflow the stack")
+    public void testDeepHierarchy() {
+        OrgChart chart = new OrgChart();
+        Employee previous = null;
+        Employee first = null;
+        for (int i = 0; i < 100_000; i++) {
+            Employee emp = new Employee("E" + i, "Employee " + i, 1, engineering);
+            chart.add(emp, previous);
+            if (first == null) {
+                first = emp;
+            }
+            previous = emp;
+        }
+
+        assertEquals(99_999, chart.reportCount(first));
+        assertEquals(99_999, chart.depth(previous));
+        assertEquals(100_000, chart.teamSalary(first));
+    }
+}
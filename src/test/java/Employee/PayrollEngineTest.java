@@ -0,0 +1,140 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("PayrollEngine Virtual Thread Payroll Tests")
+public class PayrollEngineTest {
+    private List<Employee> roster;
+
+    @BeforeEach
+    public void setUp() {
+        Department[] departments = {new Department("Engineering", "Building A"),
+                new Department("Marketing", "Building B"), null};
+        roster = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Department department = departments[i % departments.length];
+            if (i % 10 == 0) {
+                roster.add(new Manager("M" + i, "Manager", 100000, department, 0.5));
+            } else if (i % 10 == 1) {
+                Contractor contractor = new Contractor("C" + i, "Contractor", 100, department, LocalDate.of(2030, 1, 1));
+                contractor.logHours(10);
+                roster.add(contractor);
+            } else {
+                roster.add(new Employee("E" + i, "Employee", 50000, department));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Computes every payslip and delivers them in batches")
+    public void testRun() throws Exception {
+        List<List<PayrollEngine.Payslip>> batches = new ArrayList<>();
+        PayrollEngine.Totals totals;
+        try (PayrollEngine engine = new PayrollEngine(TaxService.flatRate(0.25, 0), 4, 64)) {
+            totals = engine.run(roster, batches::add);
+        }
+
+        assertEquals(1000, totals.payslips());
+        // 100 managers at 150000, 100 contractors at 1000, 800 employees at 50000
+        assertEquals(100 * 150000 + 100 * 1000 + 800 * 50000, totals.grossPay(), 1e-6);
+        assertEquals(totals.grossPay() * 0.25, totals.tax(), 1e-6);
+        assertEquals(16, batches.size());
+        for (int i = 0; i < batches.size() - 1; i++) {
+            assertEquals(64, batches.get(i).size(), "Full batches before the last");
+        }
+        Set<Employee> paid = Collections.newSetFromMap(new IdentityHashMap<>());
+        batches.forEach(batch -> batch.forEach(payslip -> paid.add(payslip.employee())));
+        assertEquals(1000, paid.size(), "Each employee paid once");
+        PayrollEngine.Payslip payslip = batches.get(0).get(0);
+        assertEquals(payslip.grossPay() * 0.75, payslip.netPay(), 1e-9);
+    }
+
+    @Test
+    @DisplayName("Concurrent tax calls stay within the per-department limit")
+    public void testDepartmentLimit() throws Exception {
+        Map<Department, AtomicInteger> active = new ConcurrentHashMap<>();
+        AtomicInteger nullActive = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        TaxService stub = TaxService.flatRate(0.2, 200_000);
+        TaxService tracking = (employee, grossPay) -> {
+            AtomicInteger counter = employee.getDepartment() == null
+                    ? nullActive : active.computeIfAbsent(employee.getDepartment(), d -> new AtomicInteger());
+            peak.accumulateAndGet(counter.incrementAndGet(), Math::max);
+            try {
+                return stub.withholding(employee, grossPay);
+            } finally {
+                counter.decrementAndGet();
+            }
+        };
+        try (PayrollEngine engine = new PayrollEngine(tracking, 3, 100)) {
+            assertEquals(1000, engine.run(roster, batch -> { }).payslips());
+        }
+        assertEquals(3, peak.get(), "Limit reached but never exceeded");
+    }
+
+    @Test
+    @DisplayName("The first failure stops the run and no task outlives it")
+    public void testFailure() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        TaxService failing = (employee, grossPay) -> {
+            calls.incrementAndGet();
+            if (employee.getId().equals("E52")) {
+                throw new IOException("Tax service unavailable");
+            }
+            return 0;
+        };
+        List<PayrollEngine.Payslip> delivered = new ArrayList<>();
+        try (PayrollEngine engine = new PayrollEngine(Executors.newFixedThreadPool(4), failing, 2, 10, 100)) {
+            ExecutionException e = assertThrows(ExecutionException.class, () -> engine.run(roster, delivered::addAll));
+            assertInstanceOf(IOException.class, e.getCause());
+            int callsAtReturn = calls.get();
+            assertTrue(callsAtReturn < 1000, "Later employees were skipped, got " + callsAtReturn);
+            assertEquals(callsAtReturn, calls.get(), "No task still running after run() returned");
+            assertTrue(delivered.size() < 1000);
+
+            // The engine stays usable for the next run
+            assertThrows(ExecutionException.class, () -> engine.run(roster.subList(0, 60), batch -> { }));
+            assertEquals(10, engine.run(roster.subList(0, 10), batch -> { }).payslips());
+        }
+    }
+
+    @Test
+    @DisplayName("A failure interrupts tax calls that are still blocked")
+    public void testFailureCancelsBlockedCalls() {
+        CountDownLatch never = new CountDownLatch(1);
+        AtomicInteger interrupted = new AtomicInteger();
+        TaxService hanging = (employee, grossPay) -> {
+            if (employee.getId().equals("E52")) {
+                throw new IOException("Tax service unavailable");
+            }
+            try {
+                never.await();
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+                throw e;
+            }
+            return 0;
+        };
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            try (PayrollEngine engine = new PayrollEngine(hanging, 1000, 10)) {
+                ExecutionException e = assertThrows(ExecutionException.class,
+                        () -> engine.run(roster.subList(0, 100), batch -> { }));
+                assertInstanceOf(IOException.class, e.getCause());
+            }
+        });
+        assertTrue(interrupted.get() > 0, "Blocked tax calls were interrupted");
+    }
+}
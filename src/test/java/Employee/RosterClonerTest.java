@@ -0,0 +1,80 @@
+package Employee;
+
+import Department.Department;
+import Department.DepartmentRegistry;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RosterCloner Parallel Deep Clone Tests")
+public class RosterClonerTest {
+    private List<Employee> roster;
+
+    @BeforeEach
+    public void setUp() {
+        Department engineering = new Department("Engineering", "Building A");
+        Department marketing = new Department("Marketing", "Building B");
+        roster = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            Department department = i % 3 == 0 ? marketing : new Department("Engineering", "Building A");
+            Employee emp = i % 100 == 0
+                    ? new Manager("M" + i, "Manager " + i, 100000, engineering, 0.2)
+                    : new Employee("E" + i, "Employee " + i, 50000 + i, department);
+            emp.addSkill("Skill" + (i % 7));
+            roster.add(emp);
+        }
+    }
+
+    @Test
+    @DisplayName("Clones keep order, type and content")
+    public void testDeepCloneAll() {
+        List<Employee> cloned;
+        try (ForkJoinPool pool = new ForkJoinPool(4)) {
+            cloned = new RosterCloner(pool).deepCloneAll(roster);
+        }
+
+        assertEquals(roster.size(), cloned.size());
+        for (int i = 0; i < roster.size(); i++) {
+            Employee original = roster.get(i);
+            Employee copy = cloned.get(i);
+            assertNotSame(original, copy);
+            assertEquals(original.getClass(), copy.getClass(), "Subclass type should be preserved");
+            assertEquals(original.getId(), copy.getId());
+            assertEquals(original.getSalary(), copy.getSalary());
+            assertEquals(original.getSkills(), copy.getSkills());
+            assertNotSame(original.getDepartment(), copy.getDepartment());
+        }
+        assertEquals(0.2, ((Manager) cloned.get(0)).getBonusPercentage());
+    }
+
+    @Test
+    @DisplayName("Clones are isolated from later changes")
+    public void testIsolation() {
+        List<Employee> cloned = new RosterCloner().deepCloneAll(roster);
+        roster.get(5).addSkill("New Skill");
+        roster.get(5).getDepartment().setLocation("Moved");
+
+        assertFalse(cloned.get(5).getSkills().contains("New Skill"));
+        assertEquals("Building A", cloned.get(5).getDepartment().getLocation());
+    }
+
+    @Test
+    @DisplayName("Registry clones share canonical departments")
+    public void testSharedDepartments() {
+        DepartmentRegistry registry = new DepartmentRegistry();
+        List<Employee> cloned = new RosterCloner().deepCloneAll(roster, registry);
+
+        assertEquals(2, registry.size());
+        assertSame(cloned.get(1).getDepartment(), cloned.get(2).getDepartment());
+    }
+
+    @Test
+    @DisplayName("Empty rosters and null entries")
+    public void testEdgeCases() {
+        assertTrue(new RosterCloner().deepCloneAll(List.of()).isEmpty());
+        assertNull(new RosterCloner().deepCloneAll(Arrays.asList(roster.get(1), null)).get(1));
+    }
+}
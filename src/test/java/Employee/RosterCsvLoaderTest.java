@@ -0,0 +1,136 @@
+package Employee;
+
+import Department.DepartmentRegistry;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RosterCsvLoader Streaming Import Tests")
+public class RosterCsvLoaderTest {
+    @TempDir
+    Path tempDir;
+
+    private Path write(String content) throws IOException {
+        Path file = tempDir.resolve("roster.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private List<Employee> loadAll(RosterCsvLoader loader, Path file) throws IOException {
+        List<Employee> all = new ArrayList<>();
+        long count = loader.load(file, all::addAll);
+        assertEquals(all.size(), count);
+        return all;
+    }
+
+    @Test
+    @DisplayName("Fields, quoting, header and missing columns")
+    public void testParsing() throws IOException {
+        Path file = write("id,name,salary,department,location,skills\r\n"
+                + "E001,John Doe,75000,Engineering,Building A,Java;Docker\r\n"
+                + "E002,\"Smith, \"\"Jane\"\"\",80000.50,Marketing,Building B,\n"
+                + "\n"
+                + "E003,Zoë,-1.5e3,,,\"C++;Go\"\n"
+                + "E004,No Skills,60000,Engineering,Building A");
+        List<Employee> roster = loadAll(new RosterCsvLoader(), file);
+
+        assertEquals(4, roster.size());
+        Employee emp1 = roster.get(0);
+        assertEquals("E001", emp1.getId());
+        assertEquals("John Doe", emp1.getName());
+        assertEquals(75000, emp1.getSalary());
+        assertEquals("Engineering", emp1.getDepartment().getName());
+        assertEquals(List.of("Java", "Docker"), emp1.getSkills());
+        assertEquals("Smith, \"Jane\"", roster.get(1).getName());
+        assertEquals(80000.50, roster.get(1).getSalary());
+        assertTrue(roster.get(1).getSkills().isEmpty());
+        assertEquals("Zoë", roster.get(2).getName());
+        assertEquals(-1500, roster.get(2).getSalary());
+        assertNull(roster.get(2).getDepartment());
+        assertEquals(List.of("C++", "Go"), roster.get(2).getSkills());
+        assertTrue(roster.get(3).getSkills().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Departments and skills are interned")
+    public void testInterning() throws IOException {
+        DepartmentRegistry registry = new DepartmentRegistry();
+        Path file = write("E001,A,1,Engineering,Building A,Java\nE002,B,2,Engineering,Building A,Java\n");
+        List<Employee> roster = loadAll(new RosterCsvLoader(16, 2, registry), file);
+
+        assertSame(roster.get(0).getDepartment(), roster.get(1).getDepartment());
+        assertSame(roster.get(0).getSkills().get(0), roster.get(1).getSkills().get(0));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    @DisplayName("Large files stream in bounded batches across chunk boundaries")
+    public void testStreaming() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 50_000; i++) {
+            csv.append("E").append(i).append(",\"Employee, ").append(i).append("\",")
+                    .append(40000 + i).append(".25,Dept").append(i % 7).append(",Building,Skill")
+                    .append(i % 13).append(";Shared\n");
+        }
+        Path file = write(csv.toString());
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Employee> roster = new ArrayList<>();
+        long count = new RosterCsvLoader(1000, 2, new DepartmentRegistry()).load(file, batch -> {
+            batchSizes.add(batch.size());
+            roster.addAll(batch);
+        });
+
+        assertEquals(50_000, count);
+        assertEquals(50, batchSizes.size());
+        assertTrue(batchSizes.stream().allMatch(size -> size == 1000));
+        for (int i = 0; i < roster.size(); i += 997) {
+            Employee emp = roster.get(i);
+            assertEquals("E" + i, emp.getId());
+            assertEquals("Employee, " + i, emp.getName());
+            assertEquals(40000 + i + 0.25, emp.getSalary());
+            assertEquals(List.of("Skill" + (i % 13), "Shared"), emp.getSkills());
+        }
+    }
+
+    @Test
+    @DisplayName("Records longer than the read buffer")
+    public void testHugeRecord() throws IOException {
+        String longName = "x".repeat(3 << 20);
+        List<Employee> roster = loadAll(new RosterCsvLoader(), write("E001," + longName + ",1,,,\nE002,B,2,,,\n"));
+
+        assertEquals(longName, roster.get(0).getName());
+        assertEquals("E002", roster.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Malformed records report their position")
+    public void testErrors() throws IOException {
+        RosterCsvLoader loader = new RosterCsvLoader();
+
+        IOException salary = assertThrows(IOException.class,
+                () -> loader.load(write("E001,A,1,,,\nE002,B,lots,,,\n"), batch -> { }));
+        assertTrue(salary.getMessage().contains("Record 2"), salary.getMessage());
+        assertThrows(IOException.class, () -> loader.load(write("E001,A,1\n"), batch -> { }));
+        assertThrows(IOException.class, () -> loader.load(write("E001,\"A,1,,,\n"), batch -> { }));
+    }
+
+    @Test
+    @DisplayName("A failing consumer stops the parser")
+    public void testConsumerFailure() throws IOException {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) {
+            csv.append("E").append(i).append(",A,1,,,\n");
+        }
+        Path file = write(csv.toString());
+
+        assertThrows(IllegalStateException.class, () -> new RosterCsvLoader(10, 1, new DepartmentRegistry())
+                .load(file, batch -> { throw new IllegalStateException("stop"); }));
+    }
+}
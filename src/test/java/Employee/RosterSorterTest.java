@@ -0,0 +1,113 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RosterSorter Multi-Key Sort Tests")
+public class RosterSorterTest {
+    private static final Comparator<String> NULLS_FIRST = Comparator.nullsFirst(Comparator.naturalOrder());
+    private static final Comparator<Employee> BY_DEPARTMENT = Comparator.comparing(Employee::getDepartment,
+            Comparator.nullsFirst(Comparator.comparing(Department::getName, NULLS_FIRST)
+                    .thenComparing(Department::getLocation, NULLS_FIRST)));
+    private static final Comparator<Employee> BY_NAME = Comparator.comparing(Employee::getName, NULLS_FIRST);
+
+    private List<Employee> roster;
+
+    // Random roster with duplicate salaries, departments and name prefixes
+    private static List<Employee> roster(int size) {
+        Random random = new Random(7);
+        Department[] departments = {
+                new Department("Engineering", "Building A"), new Department("Engineering", "Annex"),
+                new Department("Marketing", "Building B"), new Department("Sales", null), null};
+        double[] specials = {-0.0, 0.0, Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY, -1.5};
+        String[] names = {"Ann", "Anna", "Annabel", "Annabelle", "Bob", "bob", "Zoë", "", null, "Ann\0"};
+        List<Employee> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double salary = random.nextInt(20) == 0
+                    ? specials[random.nextInt(specials.length)]
+                    : 40000 + random.nextInt(50) * 1000;
+            Department department = departments[random.nextInt(departments.length)];
+            roster.add(new Employee("E" + i, names[random.nextInt(names.length)], salary,
+                    department == null ? null : department.clone()));
+        }
+        return roster;
+    }
+
+    private static void assertSameOrder(List<Employee> expected, List<Employee> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i), "Mismatch at position " + i);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        roster = roster(50_000);
+    }
+
+    @Test
+    @DisplayName("Salary-only sort matches Collections.sort with compareTo")
+    public void testConsistentWithCompareTo() {
+        List<Employee> expected = new ArrayList<>(roster);
+        Collections.sort(expected);
+        List<Employee> actual = new ArrayList<>(roster);
+        new RosterSorter(RosterSorter.Key.SALARY).sort(actual);
+
+        assertSameOrder(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Department, salary, name matches the comparator chain")
+    public void testMultiKey() {
+        List<Employee> expected = new ArrayList<>(roster);
+        expected.sort(BY_DEPARTMENT.thenComparing(Comparator.naturalOrder()).thenComparing(BY_NAME));
+        List<Employee> actual = new LinkedList<>(roster);
+        new RosterSorter(RosterSorter.Key.DEPARTMENT, RosterSorter.Key.SALARY, RosterSorter.Key.NAME).sort(actual);
+
+        assertSameOrder(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Name-first sort resolves shared prefixes and nulls")
+    public void testNames() {
+        List<Employee> expected = new ArrayList<>(roster);
+        expected.sort(BY_NAME.thenComparing(BY_DEPARTMENT));
+        List<Employee> actual = new ArrayList<>(roster);
+        new RosterSorter(new ForkJoinPool(3), RosterSorter.Key.NAME, RosterSorter.Key.DEPARTMENT).sort(actual);
+
+        assertSameOrder(expected, actual);
+    }
+
+    @Test
+    @DisplayName("order() returns a stable permutation without touching the roster")
+    public void testOrder() {
+        List<Employee> small = List.of(
+                new Employee("E1", "B", 2, null),
+                new Employee("E2", "A", 1, null),
+                new Employee("E3", "C", 2, null));
+
+        assertArrayEquals(new int[]{1, 0, 2}, new RosterSorter(RosterSorter.Key.SALARY).order(small));
+        assertArrayEquals(new int[0], new RosterSorter(RosterSorter.Key.NAME).order(List.of()));
+        assertThrows(IllegalArgumentException.class, RosterSorter::new);
+    }
+
+    @Test
+    @DisplayName("Sortable bits follow Double.compare")
+    public void testSortableBits() {
+        double[] values = {Double.NEGATIVE_INFINITY, -1e300, -1, -Double.MIN_VALUE, -0.0, 0.0,
+                Double.MIN_VALUE, 1, 1e300, Double.POSITIVE_INFINITY, Double.NaN};
+        for (int i = 0; i < values.length; i++) {
+            for (int j = 0; j < values.length; j++) {
+                assertEquals(Integer.signum(Double.compare(values[i], values[j])),
+                        Integer.signum(Long.compare(RosterSorter.sortableBits(values[i]),
+                                RosterSorter.sortableBits(values[j]))),
+                        values[i] + " vs " + values[j]);
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SalaryIndex Range and Percentile Tests")
+public class SalaryIndexTest {
+    private SalaryIndex index;
+    private Employee emp1, emp3, emp4, emp5;
+
+    @BeforeEach
+    public void setUp() {
+        Department dept1 = new Department("Engineering", "Building A");
+        emp1 = new Employee("E001", "John Doe", 75000, dept1);
+        emp3 = new Employee("E002", "Jane Smith", 80000, dept1);
+        emp4 = new Employee("E003", "Bob Johnson", 75000, dept1); // Same salary as emp1
+        emp5 = new Employee("E004", "Alice Brown", 70000, dept1);
+
+        index = new SalaryIndex();
+        index.add(emp1);
+        index.add(emp3);
+        index.add(emp4);
+        index.add(emp5);
+    }
+
+    @Test
+    @DisplayName("Equal salaries are all kept")
+    public void testTies() {
+        assertEquals(4, index.size());
+        assertEquals(List.of(emp1, emp4), index.employeesBetween(75000, 75000),
+                "Both 75k employees should be found, unlike a TreeSet keyed by compareTo");
+    }
+
+    @Test
+    @DisplayName("Range, rank and percentile queries")
+    public void testQueries() {
+        assertEquals(List.of(emp5, emp1, emp4), index.employeesBetween(70000, 75000));
+        assertEquals(3, index.countBetween(72000, 80000));
+        assertEquals(0, index.countBetween(80000, 70000));
+        assertEquals(1, index.rank(75000), "Only the 70k employee earns less than 75k");
+        assertEquals(70000, index.percentile(0));
+        assertEquals(75000, index.percentile(50));
+        assertEquals(80000, index.percentile(100));
+        assertSame(emp3, index.employee(index.ordinalAt(3)));
+    }
+
+    @Test
+    @DisplayName("Index order agrees with compareTo")
+    public void testConsistentWithCompareTo() {
+        List<Employee> sorted = new ArrayList<>(List.of(emp1, emp3, emp4, emp5));
+        Collections.sort(sorted);
+
+        for (int k = 0; k < sorted.size(); k++) {
+            assertEquals(sorted.get(k).getSalary(), index.salaryAt(k));
+        }
+    }
+
+    @Test
+    @DisplayName("setSalary() keeps the index up to date")
+    public void testIncrementalUpdate() {
+        emp5.setSalary(90000);
+
+        assertEquals(0, index.countBetween(0, 70000));
+        assertSame(emp5, index.employee(index.ordinalAt(3)));
+    }
+
+    @Test
+    @DisplayName("Large randomized index matches a sorted copy")
+    public void testLargeRandomized() {
+        Random random = new Random(7);
+        SalaryIndex large = new SalaryIndex();
+        List<Employee> roster = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            Employee emp = new Employee("E" + i, "Emp" + i, random.nextInt(100) * 1000, null);
+            roster.add(emp);
+            large.add(emp);
+        }
+        for (int i = 0; i < 2000; i++) {
+            roster.get(random.nextInt(roster.size())).setSalary(random.nextInt(100) * 1000);
+            if (i % 100 == 0) {
+                // Queries between updates see the chunk counts kept by the update itself
+                double probe = random.nextInt(100) * 1000;
+                long below = roster.stream().filter(e -> e.getSalary() < probe).count();
+                assertEquals(below, large.rank(probe));
+                if (below > 0) {
+                    assertTrue(large.salaryAt((int) below - 1) < probe, "Rank and position agree");
+                }
+            }
+        }
+
+        double[] expected = roster.stream().mapToDouble(Employee::getSalary).sorted().toArray();
+        for (int k = 0; k < expected.length; k++) {
+            assertEquals(expected[k], large.salaryAt(k));
+        }
+        long expectedBand = Arrays.stream(expected).filter(s -> s >= 20000 && s <= 30000).count();
+        assertEquals(expectedBand, large.between(20000, 30000).length);
+    }
+
+    @Test
+    @DisplayName("Empty index and invalid percentiles")
+    public void testErrors() {
+        assertThrows(NoSuchElementException.class, () -> new SalaryIndex().percentile(50));
+        assertThrows(IllegalArgumentException.class, () -> index.percentile(101));
+        assertEquals(0, new SalaryIndex().between(0, 100).length);
+    }
+}
@@ -0,0 +1,135 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SkillIndex and OrdinalBitmap Tests")
+public class SkillIndexTest {
+    private SkillIndex index;
+    private Employee emp1, emp3, emp4;
+
+    @BeforeEach
+    public void setUp() {
+        Department dept1 = new Department("Engineering", "Building A");
+        emp1 = new Employee("E001", "John Doe", 75000, dept1);
+        emp1.addSkill("Java");
+        emp1.addSkill("Python");
+        emp1.addSkill("Docker");
+        emp3 = new Employee("E002", "Jane Smith", 80000, dept1);
+        emp3.addSkill("Java");
+        emp3.addSkill("Docker");
+        emp4 = new Employee("E003", "Bob Johnson", 75000, dept1);
+        emp4.addSkill("JavaScript");
+
+        index = new SkillIndex();
+        index.add(emp1);
+        index.add(emp3);
+        index.add(emp4);
+    }
+
+    @Nested
+    @DisplayName("Skill queries")
+    class QueryTests {
+
+        @Test
+        @DisplayName("AND, OR and ANDNOT queries")
+        public void testQueries() {
+            assertArrayEquals(new int[]{0, 1}, index.allOf("Java", "Docker").toArray());
+            assertArrayEquals(new int[]{0, 1, 2}, index.anyOf("Docker", "JavaScript").toArray());
+            assertEquals(List.of(emp3), index.employees(index.query(List.of("Java", "Docker"), List.of("Python"))));
+            assertTrue(index.allOf("Java", "Cobol").isEmpty(), "Unknown skill should match nobody");
+            assertTrue(index.allOf().isEmpty());
+        }
+
+        @Test
+        @DisplayName("Index follows addSkill() incrementally")
+        public void testIncrementalUpdate() {
+            emp4.addSkill("Docker");
+            emp4.addSkill("Rust");
+
+            assertTrue(index.hasSkill(2, "Docker"));
+            assertArrayEquals(new int[]{2}, index.withSkill("Rust").toArray());
+        }
+
+        @Test
+        @DisplayName("Query results do not alias the index")
+        public void testResultIsolation() {
+            OrdinalBitmap java = index.allOf("Java");
+            java.add(2);
+
+            assertFalse(index.hasSkill(2, "Java"));
+        }
+
+        @Test
+        @DisplayName("Clones are not tracked by the original's index")
+        public void testCloneNotTracked() {
+            Employee cloned = emp4.deepClone();
+            cloned.addSkill("Go");
+
+            assertEquals(-1, index.skillOrdinal("Go"));
+        }
+    }
+
+    @Nested
+    @DisplayName("OrdinalBitmap containers")
+    class BitmapTests {
+
+        @Test
+        @DisplayName("Dense chunks convert to bitsets and back")
+        public void testDenseConversion() {
+            OrdinalBitmap bitmap = new OrdinalBitmap();
+            for (int i = 0; i < 10000; i += 2) {
+                bitmap.add(i);
+            }
+            bitmap.add(1 << 20);
+            assertEquals(5001, bitmap.cardinality());
+            assertTrue(bitmap.contains(9998));
+            assertFalse(bitmap.contains(9999));
+
+            for (int i = 0; i < 4000; i += 2) {
+                bitmap.remove(i);
+            }
+            assertEquals(3001, bitmap.cardinality());
+            assertTrue(bitmap.contains(1 << 20));
+        }
+
+        @Test
+        @DisplayName("Set operations agree with java.util.BitSet")
+        public void testAgainstBitSet() {
+            Random random = new Random(42);
+            OrdinalBitmap a = new OrdinalBitmap(), b = new OrdinalBitmap();
+            BitSet expectedA = new BitSet(), expectedB = new BitSet();
+            for (int i = 0; i < 20000; i++) {
+                int x = random.nextInt(200000);
+                int y = random.nextInt(70000);
+                a.add(x);
+                expectedA.set(x);
+                b.add(y);
+                expectedB.set(y);
+            }
+
+            BitSet and = (BitSet) expectedA.clone();
+            and.and(expectedB);
+            BitSet or = (BitSet) expectedA.clone();
+            or.or(expectedB);
+            BitSet andNot = (BitSet) expectedA.clone();
+            andNot.andNot(expectedB);
+
+            assertArrayEquals(and.stream().toArray(), a.and(b).toArray());
+            assertArrayEquals(or.stream().toArray(), a.or(b).toArray());
+            assertArrayEquals(andNot.stream().toArray(), a.andNot(b).toArray());
+            assertArrayEquals(expectedA.stream().toArray(), a.toArray(), "Inputs should be untouched");
+        }
+
+        @Test
+        @DisplayName("Negative ordinals are rejected")
+        public void testNegativeOrdinal() {
+            assertThrows(IllegalArgumentException.class, () -> new OrdinalBitmap().add(-1));
+            assertFalse(new OrdinalBitmap().contains(-1));
+        }
+    }
+}
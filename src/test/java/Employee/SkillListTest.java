@@ -0,0 +1,81 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SkillList Copy-On-Write Tests")
+public class SkillListTest {
+    private SkillList original;
+
+    @BeforeEach
+    public void setUp() {
+        original = new SkillList(List.of("Java", "Python", "Docker"));
+    }
+
+    @Test
+    @DisplayName("Copies are equal but isolated on write")
+    public void testCopyIsolation() {
+        SkillList copy = original.copy();
+        assertEquals(original, copy);
+
+        copy.add("Kotlin");
+        original.set(0, "Go");
+        original.remove("Python");
+
+        assertEquals(List.of("Go", "Docker"), original);
+        assertEquals(List.of("Java", "Python", "Docker", "Kotlin"), copy);
+    }
+
+    @Test
+    @DisplayName("Clearing a shared list leaves the other side intact")
+    public void testClearShared() {
+        SkillList copy = original.copy();
+        copy.clear();
+        copy.add("Rust");
+
+        assertEquals(List.of("Rust"), copy);
+        assertEquals(3, original.size());
+    }
+
+    @Test
+    @DisplayName("Copies of empty lists never share spare capacity")
+    public void testEmptyCopy() {
+        SkillList list = new SkillList();
+        list.add("Temp");
+        list.clear();
+        SkillList copy = list.copy();
+
+        list.add("A");
+        copy.add("B");
+
+        assertEquals(List.of("A"), list);
+        assertEquals(List.of("B"), copy);
+    }
+
+    @Test
+    @DisplayName("Chained deep clones stay independent")
+    public void testChainedDeepClones() {
+        Employee emp = new Employee("E001", "John Doe", 75000, new Department("Engineering", "Building A"));
+        emp.addSkill("Java");
+        Employee clone1 = emp.deepClone();
+        Employee clone2 = clone1.deepClone();
+
+        clone1.addSkill("Clone1");
+        emp.addSkill("Original");
+
+        assertEquals(List.of("Java", "Original"), emp.getSkills());
+        assertEquals(List.of("Java", "Clone1"), clone1.getSkills());
+        assertEquals(List.of("Java"), clone2.getSkills());
+    }
+
+    @Test
+    @DisplayName("Index checks")
+    public void testIndexChecks() {
+        assertThrows(IndexOutOfBoundsException.class, () -> original.get(3));
+        assertThrows(IndexOutOfBoundsException.class, () -> original.add(5, "X"));
+    }
+}
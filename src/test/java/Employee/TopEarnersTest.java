@@ -0,0 +1,95 @@
+package Employee;
+
+import Department.Department;
+import org.junit.jupiter.api.*;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TopEarners Top-K Selection Tests")
+public class TopEarnersTest {
+    private List<Employee> roster;
+
+    // Random roster with many equal salaries, special values and a null department
+    private static List<Employee> roster(int size) {
+        Random random = new Random(11);
+        Department[] departments = {
+                new Department("Engineering", "Building A"), new Department("Engineering", "Annex"),
+                new Department("Marketing", "Building B"), new Department("Sales", null), null};
+        double[] specials = {-0.0, 0.0, Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+        List<Employee> roster = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            double salary = random.nextInt(50) == 0
+                    ? specials[random.nextInt(specials.length)]
+                    : 40000 + random.nextInt(100) * 1000;
+            Department department = departments[random.nextInt(departments.length)];
+            roster.add(new Employee("E" + i, "Name" + i, salary,
+                    department == null ? null : department.clone()));
+        }
+        return roster;
+    }
+
+    // Sort-then-sublist reference: first k of a stable descending sort
+    private static List<Employee> sortThenSublist(List<Employee> employees, int k) {
+        List<Employee> sorted = new ArrayList<>(employees);
+        sorted.sort(Comparator.reverseOrder());
+        return sorted.subList(0, Math.min(k, sorted.size()));
+    }
+
+    private static void assertSameOrder(List<Employee> expected, List<Employee> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i), "Mismatch at position " + i);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        roster = roster(60_000);
+    }
+
+    @Test
+    @DisplayName("Highest paid matches sort-then-sublist, ties in roster order")
+    public void testHighestPaid() {
+        TopEarners topEarners = new TopEarners();
+        for (int k : new int[]{1, 10, 500, 5000}) {
+            assertSameOrder(sortThenSublist(roster, k), topEarners.highestPaid(roster, k));
+        }
+    }
+
+    @Test
+    @DisplayName("Per-department selection matches sorting each department")
+    public void testHighestPaidByDepartment() {
+        Map<Department, List<Employee>> expected = roster.stream().collect(Collectors.groupingBy(
+                e -> Optional.ofNullable(e.getDepartment()), Collectors.toList()))
+                .entrySet().stream().collect(HashMap::new,
+                        (map, entry) -> map.put(entry.getKey().orElse(null), sortThenSublist(entry.getValue(), 25)),
+                        HashMap::putAll);
+
+        Map<Department, List<Employee>> actual = new TopEarners(new ForkJoinPool(3)).highestPaidByDepartment(roster, 25);
+
+        assertEquals(expected.keySet(), actual.keySet());
+        assertTrue(actual.containsKey(null), "Employees without a department are grouped under null");
+        expected.forEach((department, top) -> assertSameOrder(top, actual.get(department)));
+    }
+
+    @Test
+    @DisplayName("Edge cases: k of zero, k beyond the roster, empty roster, negative k")
+    public void testEdgeCases() {
+        TopEarners topEarners = new TopEarners();
+        List<Employee> small = List.of(
+                new Employee("E1", "A", 50000, null),
+                new Employee("E2", "B", 70000, null),
+                new Employee("E3", "C", 50000, null));
+
+        assertTrue(topEarners.highestPaid(small, 0).isEmpty());
+        assertSameOrder(List.of(small.get(1), small.get(0), small.get(2)), topEarners.highestPaid(small, 10));
+        assertTrue(topEarners.highestPaid(List.of(), 3).isEmpty());
+        assertTrue(topEarners.highestPaidByDepartment(List.of(), 3).isEmpty());
+        assertTrue(topEarners.highestPaidByDepartment(small, 0).get(null).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> topEarners.highestPaid(small, -1));
+    }
+}